@@ -0,0 +1,144 @@
+package Benchmarks;
+
+import MemoryManagement.AddressTrace;
+import MemoryManagement.Paging;
+import MemoryManagement.Tlb;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link Paging#allocateProcess} and {@link Paging#translateAddress} for a
+ * memory holding {@code processes} processes of 1 to {@code maxPages} pages.
+ * Allocation is timed per full memory, taking either any free frames or one
+ * contiguous run per process; translation is timed per address, through
+ * flat or radix page tables, with or without a 4-way TLB in front.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xms4g", "-Xmx4g"})
+public class PagingBenchmark {
+    static final int FRAME_SIZE = 16;
+    static final int ADDRESS_COUNT = 1 << 16;
+
+    @State(Scope.Thread)
+    public static class Processes {
+        @Param({"1000", "10000", "100000", "1000000"})
+        public int processes;
+
+        @Param({"4"})
+        public int maxPages;
+
+        @Param({"false", "true"})
+        public boolean contiguous;
+
+        Paging.ProcessInfo[] infos;
+        Paging paging;
+
+        @Setup(Level.Trial)
+        public void generate() {
+            SplittableRandom random = new SplittableRandom(42);
+            infos = new Paging.ProcessInfo[processes];
+            for (int pid = 0; pid < processes; pid++) {
+                int size = 1 + random.nextInt(maxPages * FRAME_SIZE);
+                infos[pid] = new Paging.ProcessInfo(pid, size, FRAME_SIZE);
+            }
+        }
+
+        @Setup(Level.Invocation)
+        public void resetMemory() {
+            paging = new Paging(processes * maxPages * FRAME_SIZE, FRAME_SIZE);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Addresses {
+        @Param({"1000", "10000", "100000", "1000000"})
+        public int processes;
+
+        @Param({"4"})
+        public int maxPages;
+
+        @Param({"flat", "1,1", "1,1,1"})
+        public String levels;
+
+        @Param({"0", "64"})
+        public int tlbEntries;
+
+        Paging paging;
+        int[] pids = new int[ADDRESS_COUNT];
+        int[] pages = new int[ADDRESS_COUNT];
+        int[] offsets = new int[ADDRESS_COUNT];
+        long[] references = new long[ADDRESS_COUNT];
+        int[] physical = new int[ADDRESS_COUNT];
+
+        @Setup(Level.Trial)
+        public void allocate() {
+            SplittableRandom random = new SplittableRandom(42);
+            int[] levelBits = null;
+            if (!levels.equals("flat")) {
+                String[] parts = levels.split(",");
+                levelBits = new int[parts.length];
+                for (int i = 0; i < parts.length; i++) {
+                    levelBits[i] = Integer.parseInt(parts[i]);
+                }
+            }
+            paging = new Paging(processes * maxPages * FRAME_SIZE, FRAME_SIZE, levelBits);
+            if (tlbEntries > 0) {
+                paging.setTlb(new Tlb(tlbEntries, 4, Tlb.Replacement.LRU, false));
+            }
+            for (int pid = 0; pid < processes; pid++) {
+                int size = 1 + random.nextInt(maxPages * FRAME_SIZE);
+                paging.allocateProcess(new Paging.ProcessInfo(pid, size, FRAME_SIZE));
+            }
+            // Pages past a process's end are included on purpose, so misses are timed too.
+            for (int i = 0; i < ADDRESS_COUNT; i++) {
+                pids[i] = random.nextInt(processes);
+                pages[i] = random.nextInt(maxPages);
+                offsets[i] = random.nextInt(FRAME_SIZE);
+                references[i] = AddressTrace.reference(pids[i], pages[i] * FRAME_SIZE + offsets[i]);
+            }
+        }
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public Paging allocateProcess(Processes state) {
+        Paging paging = state.paging;
+        for (Paging.ProcessInfo info : state.infos) {
+            paging.allocateProcess(info, state.contiguous);
+        }
+        return paging;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ADDRESS_COUNT)
+    public int translateBatch(Addresses state) {
+        return state.paging.translate(state.references, state.physical, ADDRESS_COUNT);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ADDRESS_COUNT)
+    public void translateAddress(Addresses state, Blackhole blackhole) {
+        Paging paging = state.paging;
+        for (int i = 0; i < ADDRESS_COUNT; i++) {
+            blackhole.consume(paging.translateAddress(state.pids[i], state.pages[i], state.offsets[i]));
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package Benchmarks;
+
+import CPUScheduling.Priority;
+import CPUScheduling.RoundRobin;
+import CPUScheduling.SJF;
+import CPUScheduling.ScheduleMetrics;
+import CPUScheduling.ScheduleResult;
+import CPUScheduling.ScheduleSink;
+import CPUScheduling.Scheduler;
+import CPUScheduling.Workload;
+import Model.ProcessList;
+import Model.WorkloadGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time to schedule a whole generated workload, per algorithm, size and
+ * burst distribution. {@code schedule} builds the full Gantt chart and
+ * completion times; {@code stream} only keeps the metrics, which is what
+ * large workloads use.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xms4g", "-Xmx4g"})
+public class SchedulerBenchmark {
+    @Param({"SJF", "PRIORITY_NP", "PRIORITY_P", "RR"})
+    public String algorithm;
+
+    @Param({"1000", "10000", "100000", "1000000", "10000000"})
+    public int size;
+
+    @Param({"EXPONENTIAL", "PARETO", "BIMODAL"})
+    public WorkloadGenerator.BurstDistribution distribution;
+
+    @Param({"POISSON"})
+    public WorkloadGenerator.ArrivalPattern arrivals;
+
+    @Param({"4"})
+    public int quantum;
+
+    private Scheduler scheduler;
+    private Workload workload;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        ProcessList processList = ProcessList.getInstance();
+        processList.clear();
+        new WorkloadGenerator()
+                .setBurstDistribution(distribution)
+                .setArrivalPattern(arrivals)
+                .generate(processList, size);
+        workload = Workload.of(processList);
+        processList.clear();
+
+        switch (algorithm) {
+            case "SJF":
+                scheduler = new SJF();
+                break;
+            case "PRIORITY_NP":
+                scheduler = new Priority(false);
+                break;
+            case "PRIORITY_P":
+                scheduler = new Priority(true);
+                break;
+            case "RR":
+                scheduler = new RoundRobin(quantum);
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown algorithm: " + algorithm);
+        }
+    }
+
+    @Benchmark
+    public ScheduleResult schedule() {
+        return scheduler.schedule(workload);
+    }
+
+    @Benchmark
+    public ScheduleMetrics stream() {
+        return scheduler.stream(workload, ScheduleSink.NONE);
+    }
+}
@@ -0,0 +1,127 @@
+package Benchmarks;
+
+import MemoryManagement.AddressTrace;
+import MemoryManagement.Segmentation;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link Segmentation#allocateProcess} and {@link Segmentation#translateAddress}
+ * for {@code processes} processes, each with code, data and stack segments of
+ * 1 to {@code maxSegmentSize} bytes.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xms4g", "-Xmx4g"})
+public class SegmentationBenchmark {
+    static final String[] SEGMENT_NAMES = {"code", "data", "stack"};
+    static final int ADDRESS_COUNT = 1 << 16;
+
+    @State(Scope.Thread)
+    public static class Processes {
+        @Param({"1000", "10000", "100000", "1000000"})
+        public int processes;
+
+        @Param({"64"})
+        public int maxSegmentSize;
+
+        Segmentation.ProcessInfo[] infos;
+        Segmentation segmentation;
+
+        @Setup(Level.Trial)
+        public void generate() {
+            infos = generateProcesses(processes, maxSegmentSize);
+        }
+
+        @Setup(Level.Invocation)
+        public void resetMemory() {
+            segmentation = new Segmentation(processes * SEGMENT_NAMES.length * maxSegmentSize);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Addresses {
+        @Param({"1000", "10000", "100000", "1000000"})
+        public int processes;
+
+        @Param({"64"})
+        public int maxSegmentSize;
+
+        Segmentation segmentation;
+        int[] pids = new int[ADDRESS_COUNT];
+        int[] segments = new int[ADDRESS_COUNT];
+        int[] offsets = new int[ADDRESS_COUNT];
+        long[] references = new long[ADDRESS_COUNT];
+        int[] physical = new int[ADDRESS_COUNT];
+
+        @Setup(Level.Trial)
+        public void allocate() {
+            segmentation = new Segmentation(processes * SEGMENT_NAMES.length * maxSegmentSize);
+            for (Segmentation.ProcessInfo info : generateProcesses(processes, maxSegmentSize)) {
+                segmentation.allocateProcess(info);
+            }
+            // Offsets run past the smaller segments on purpose, so limit faults are timed too.
+            SplittableRandom random = new SplittableRandom(7);
+            for (int i = 0; i < ADDRESS_COUNT; i++) {
+                pids[i] = random.nextInt(processes);
+                segments[i] = random.nextInt(SEGMENT_NAMES.length);
+                offsets[i] = random.nextInt(maxSegmentSize);
+                references[i] = AddressTrace.reference(pids[i], Segmentation.logicalAddress(segments[i], offsets[i]));
+            }
+        }
+    }
+
+    static Segmentation.ProcessInfo[] generateProcesses(int processes, int maxSegmentSize) {
+        SplittableRandom random = new SplittableRandom(42);
+        Segmentation.ProcessInfo[] infos = new Segmentation.ProcessInfo[processes];
+        for (int pid = 0; pid < processes; pid++) {
+            infos[pid] = new Segmentation.ProcessInfo(pid);
+            for (String name : SEGMENT_NAMES) {
+                infos[pid].addSegment(name, 1 + random.nextInt(maxSegmentSize));
+            }
+        }
+        return infos;
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public Segmentation allocateProcess(Processes state) {
+        Segmentation segmentation = state.segmentation;
+        for (Segmentation.ProcessInfo info : state.infos) {
+            segmentation.allocateProcess(info);
+        }
+        return segmentation;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ADDRESS_COUNT)
+    public int translateBatch(Addresses state) {
+        return state.segmentation.translate(state.references, state.physical, ADDRESS_COUNT);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ADDRESS_COUNT)
+    public void translateAddress(Addresses state, Blackhole blackhole) {
+        Segmentation segmentation = state.segmentation;
+        for (int i = 0; i < ADDRESS_COUNT; i++) {
+            blackhole.consume(segmentation.translateAddress(state.pids[i], state.segments[i], state.offsets[i]));
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package CPUScheduling;
+
+import Model.ProcessStore;
+
+/**
+ * Sequential supply of processes in arrival order. {@link SchedulingKernel}
+ * only ever looks at the next arrival, so a source can stream from storage
+ * far larger than the heap.
+ */
+interface ArrivalSource {
+    boolean hasNext();
+
+    int peekArrivalTime();
+
+    /** Moves the next process into a free slot of {@code table} and returns the slot. */
+    int admit(ProcessTable table);
+
+    /**
+     * Streams a store whose records are already in arrival order; pids are record indices.
+     *
+     * @throws IllegalArgumentException if the store holds more records than there are int pids
+     */
+    static ArrivalSource of(ProcessStore store) {
+        if (store.size() > Integer.MAX_VALUE)
+            throw new IllegalArgumentException("Cannot schedule more than " + Integer.MAX_VALUE + " processes");
+
+        return new ArrivalSource() {
+            private long next = 0;
+
+            @Override
+            public boolean hasNext() {
+                return next < store.size();
+            }
+
+            @Override
+            public int peekArrivalTime() {
+                return store.getArrivalTime(next);
+            }
+
+            @Override
+            public int admit(ProcessTable table) {
+                long index = next++;
+                return table.admit((int) index, store.getArrivalTime(index),
+                        store.getBurstTime(index), store.getPriority(index));
+            }
+        };
+    }
+}
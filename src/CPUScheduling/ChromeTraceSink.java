@@ -0,0 +1,147 @@
+package CPUScheduling;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Streams a schedule as Chrome trace-event JSON, the format Perfetto and
+ * chrome://tracing open. Every slice becomes a complete ("X") event, either on
+ * its own track per process or all on a single CPU track, and ready-queue
+ * length changes become a counter track. One simulated time unit is shown as
+ * one millisecond.
+ *
+ * Events are encoded byte by byte into a direct buffer that is flushed to a
+ * {@link FileChannel} whenever it fills, so neither the document nor a String
+ * per event is ever built. Write failures surface as
+ * {@link UncheckedIOException} from the event that hit them.
+ */
+public class ChromeTraceSink implements ScheduleSink, Closeable {
+    private static final int BUFFER_SIZE = 1 << 16;
+    private static final int MAX_EVENT_BYTES = 256;
+    private static final long MICROS_PER_UNIT = 1000;
+    private static final int CPU_TRACK = 0;
+
+    private final FileChannel channel;
+    private final ByteBuffer buffer;
+    private final boolean cpuTrack;
+    private final byte[] digits = new byte[20];
+    private boolean firstEvent = true;
+
+    /**
+     * @param cpuTrack put every slice on one CPU track instead of one track per process
+     */
+    public ChromeTraceSink(Path file, boolean cpuTrack) throws IOException {
+        this.channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+        this.buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+        this.cpuTrack = cpuTrack;
+
+        put("{\"displayTimeUnit\":\"ms\",\"traceEvents\":[\n");
+        beginEvent();
+        put("{\"ph\":\"M\",\"pid\":1,\"name\":\"process_name\",\"args\":{\"name\":\"MiniOS CPU scheduler\"}}");
+        if (cpuTrack) {
+            beginEvent();
+            put("{\"ph\":\"M\",\"pid\":1,\"tid\":");
+            put(CPU_TRACK);
+            put(",\"name\":\"thread_name\",\"args\":{\"name\":\"CPU\"}}");
+        }
+    }
+
+    @Override
+    public void onFirstDispatch(int pid, int arrivalTime, int time) {
+        if (cpuTrack) return;
+        beginEvent();
+        put("{\"ph\":\"M\",\"pid\":1,\"tid\":");
+        put(track(pid));
+        put(",\"name\":\"thread_name\",\"args\":{\"name\":\"P");
+        put(pid);
+        put("\"}}");
+        beginEvent();
+        put("{\"ph\":\"M\",\"pid\":1,\"tid\":");
+        put(track(pid));
+        put(",\"name\":\"thread_sort_index\",\"args\":{\"sort_index\":");
+        put(pid);
+        put("}}");
+    }
+
+    @Override
+    public void onSlice(int pid, int startTime, int endTime) {
+        beginEvent();
+        put("{\"ph\":\"X\",\"pid\":1,\"tid\":");
+        put(cpuTrack ? CPU_TRACK : track(pid));
+        put(",\"name\":\"P");
+        put(pid);
+        put("\",\"ts\":");
+        put(startTime * MICROS_PER_UNIT);
+        put(",\"dur\":");
+        put((long) (endTime - startTime) * MICROS_PER_UNIT);
+        put("}");
+    }
+
+    @Override
+    public void onReadyQueueLength(int time, int length) {
+        beginEvent();
+        put("{\"ph\":\"C\",\"pid\":1,\"name\":\"Ready queue\",\"ts\":");
+        put(time * MICROS_PER_UNIT);
+        put(",\"args\":{\"length\":");
+        put(length);
+        put("}}");
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            put("\n]}\n");
+            flush();
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        } finally {
+            channel.close();
+        }
+    }
+
+    /** Track ids start at 1 so process tracks never collide with the CPU track. */
+    private static long track(int pid) {
+        return pid + 1L;
+    }
+
+    private void beginEvent() {
+        if (buffer.remaining() < MAX_EVENT_BYTES) flush();
+        if (!firstEvent) put(",\n");
+        firstEvent = false;
+    }
+
+    private void put(String ascii) {
+        for (int i = 0; i < ascii.length(); i++) {
+            buffer.put((byte) ascii.charAt(i));
+        }
+    }
+
+    private void put(long value) {
+        if (value < 0) {
+            buffer.put((byte) '-');
+            value = -value;
+        }
+        int n = 0;
+        do {
+            digits[n++] = (byte) ('0' + value % 10);
+            value /= 10;
+        } while (value != 0);
+        while (n > 0) buffer.put(digits[--n]);
+    }
+
+    private void flush() {
+        buffer.flip();
+        try {
+            while (buffer.hasRemaining()) channel.write(buffer);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        buffer.clear();
+    }
+}
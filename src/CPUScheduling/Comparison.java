@@ -0,0 +1,44 @@
+package CPUScheduling;
+
+import Model.ProcessStore;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Runs several schedulers against one workload snapshot in parallel on the
+ * common fork-join pool, so a comparison takes about as long as its slowest
+ * algorithm. Stores too large for a snapshot are streamed once per scheduler
+ * instead, keeping only the metrics.
+ */
+public final class Comparison {
+    private Comparison() {}
+
+    public static List<Scheduler> allAlgorithms(int timeQuantum, boolean includePriority) {
+        List<Scheduler> schedulers = new ArrayList<>();
+        schedulers.add(new SJF());
+        if (includePriority) {
+            schedulers.add(new Priority(false));
+            schedulers.add(new Priority(true));
+        }
+        schedulers.add(new RoundRobin(timeQuantum));
+        return schedulers;
+    }
+
+    public static List<ScheduleResult> runAll(Workload workload, List<Scheduler> schedulers) {
+        return schedulers.parallelStream()
+                .map(scheduler -> scheduler.schedule(workload))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Streams an arrival-ordered store once per scheduler, in parallel.
+     *
+     * @throws IllegalStateException if the records are not in arrival order
+     */
+    public static List<ScheduleMetrics> summarizeAll(ProcessStore store, List<Scheduler> schedulers) {
+        return schedulers.parallelStream()
+                .map(scheduler -> scheduler.summarize(store))
+                .collect(Collectors.toList());
+    }
+}
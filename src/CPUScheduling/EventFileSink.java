@@ -0,0 +1,67 @@
+package CPUScheduling;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Writes every event to a text file through a buffer, one line per event:
+ * <pre>
+ * dispatch,pid,time
+ * first,pid,arrival,time
+ * slice,pid,start,end
+ * complete,pid,arrival,burst,completion
+ * queue,time,length
+ * </pre>
+ * Write failures surface as {@link UncheckedIOException} from the event that hit them.
+ */
+public class EventFileSink implements ScheduleSink, Closeable {
+    private final BufferedWriter writer;
+
+    public EventFileSink(Path file) throws IOException {
+        this.writer = Files.newBufferedWriter(file, StandardCharsets.US_ASCII);
+    }
+
+    @Override
+    public void onDispatch(int pid, int time) {
+        write("dispatch," + pid + "," + time);
+    }
+
+    @Override
+    public void onFirstDispatch(int pid, int arrivalTime, int time) {
+        write("first," + pid + "," + arrivalTime + "," + time);
+    }
+
+    @Override
+    public void onSlice(int pid, int startTime, int endTime) {
+        write("slice," + pid + "," + startTime + "," + endTime);
+    }
+
+    @Override
+    public void onCompletion(long index, int pid, int arrivalTime, int burstTime, int completionTime) {
+        write("complete," + pid + "," + arrivalTime + "," + burstTime + "," + completionTime);
+    }
+
+    @Override
+    public void onReadyQueueLength(int time, int length) {
+        write("queue," + time + "," + length);
+    }
+
+    @Override
+    public void close() throws IOException {
+        writer.close();
+    }
+
+    private void write(String line) {
+        try {
+            writer.write(line);
+            writer.newLine();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package CPUScheduling;
+
+import java.util.Arrays;
+
+/**
+ * Gantt chart of one schedule kept as three parallel int columns (pid, start,
+ * end), 12 bytes per segment with no object per segment. A slice that starts
+ * where the previous slice of the same process ended extends that segment
+ * instead of adding a new one, so back-to-back Round Robin quanta of a lone
+ * process collapse into a single bar.
+ *
+ * Only the scheduler that builds a chart appends to it; once handed out in a
+ * {@link ScheduleResult} it is read-only.
+ */
+public final class GanttChart {
+    private static final int INITIAL_CAPACITY = 16;
+
+    private int[] pids;
+    private int[] startTimes;
+    private int[] endTimes;
+    private int size;
+
+    GanttChart() {
+        this.pids = new int[INITIAL_CAPACITY];
+        this.startTimes = new int[INITIAL_CAPACITY];
+        this.endTimes = new int[INITIAL_CAPACITY];
+        this.size = 0;
+    }
+
+    void append(int pid, int startTime, int endTime) {
+        if (size > 0 && pids[size - 1] == pid && endTimes[size - 1] == startTime) {
+            endTimes[size - 1] = endTime;
+            return;
+        }
+        if (size == pids.length) grow();
+        pids[size] = pid;
+        startTimes[size] = startTime;
+        endTimes[size] = endTime;
+        size++;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int getPid(int index) {
+        checkIndex(index);
+        return pids[index];
+    }
+
+    public int getStartTime(int index) {
+        checkIndex(index);
+        return startTimes[index];
+    }
+
+    public int getEndTime(int index) {
+        checkIndex(index);
+        return endTimes[index];
+    }
+
+    /** End of the last segment, or 0 for an empty chart. */
+    public int getEndTime() {
+        return size == 0 ? 0 : endTimes[size - 1];
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size)
+            throw new IndexOutOfBoundsException("No Gantt segment at index " + index);
+    }
+
+    private void grow() {
+        int newCapacity = pids.length * 2;
+        pids = Arrays.copyOf(pids, newCapacity);
+        startTimes = Arrays.copyOf(startTimes, newCapacity);
+        endTimes = Arrays.copyOf(endTimes, newCapacity);
+    }
+}
@@ -0,0 +1,49 @@
+package CPUScheduling;
+
+import Model.ProcessStore;
+
+/**
+ * Shared plumbing for schedulers that run on {@link SchedulingKernel}. A
+ * subclass only states its ready-queue policy, quantum and preemption rule.
+ */
+abstract class KernelScheduler implements Scheduler {
+
+    abstract ReadyQueue newReadyQueue(ProcessTable table);
+
+    abstract int quantum();
+
+    abstract boolean preemptive();
+
+    @Override
+    public ScheduleResult schedule(Workload workload) {
+        int[] completionTimes = new int[workload.size()];
+        GanttChart ganttChart = new GanttChart();
+        ScheduleMetrics metrics = stream(workload, new ScheduleSink() {
+            @Override
+            public void onSlice(int pid, int startTime, int endTime) {
+                ganttChart.append(pid, startTime, endTime);
+            }
+
+            @Override
+            public void onCompletion(long index, int pid, int arrivalTime, int burstTime, int completionTime) {
+                completionTimes[(int) index] = completionTime;
+            }
+        });
+        return new ScheduleResult(getName(), workload, completionTimes, ganttChart, metrics);
+    }
+
+    @Override
+    public ScheduleMetrics stream(Workload workload, ScheduleSink sink) {
+        return run(workload.arrivals(), sink);
+    }
+
+    @Override
+    public ScheduleMetrics stream(ProcessStore store, ScheduleSink sink) {
+        return run(ArrivalSource.of(store), sink);
+    }
+
+    private ScheduleMetrics run(ArrivalSource source, ScheduleSink sink) {
+        ProcessTable table = new ProcessTable();
+        return new SchedulingKernel(source, table, newReadyQueue(table), quantum(), preemptive(), sink).run();
+    }
+}
@@ -0,0 +1,91 @@
+package CPUScheduling;
+
+/**
+ * Constant-memory histogram of non-negative time values with log-scaled
+ * buckets, in the style of HdrHistogram. Values below 128 get one bucket each.
+ * Above that, each power of two is split into 64 linear sub-buckets, so a
+ * percentile is off by at most 1/64 of its value. Count, max, mean and
+ * standard deviation are exact.
+ */
+public final class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 6;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int LINEAR_LIMIT = 2 * SUB_BUCKETS;
+    private static final int BUCKET_COUNT = LINEAR_LIMIT + (62 - SUB_BUCKET_BITS) * SUB_BUCKETS;
+    /** Approximate heap held by one histogram, its bucket counts plus object headers. */
+    static final long ESTIMATED_BYTES = 8L * BUCKET_COUNT + 64;
+
+    private final long[] counts = new long[BUCKET_COUNT];
+    private long count;
+    private long max;
+    private double mean;
+    private double squaredDeviations;
+
+    void record(long value) {
+        if (value < 0)
+            throw new IllegalArgumentException("Negative value: " + value);
+        counts[indexOf(value)]++;
+        count++;
+        max = Math.max(max, value);
+        // Welford's update keeps the variance stable over billions of samples.
+        double delta = value - mean;
+        mean += delta / count;
+        squaredDeviations += delta * (value - mean);
+    }
+
+    /** An independent histogram holding the same values. */
+    LatencyHistogram copy() {
+        LatencyHistogram copy = new LatencyHistogram();
+        System.arraycopy(counts, 0, copy.counts, 0, BUCKET_COUNT);
+        copy.count = count;
+        copy.max = max;
+        copy.mean = mean;
+        copy.squaredDeviations = squaredDeviations;
+        return copy;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public long getMax() {
+        return max;
+    }
+
+    public double getMean() {
+        return count == 0 ? 0.0 : mean;
+    }
+
+    public double getStdDeviation() {
+        return count == 0 ? 0.0 : Math.sqrt(squaredDeviations / count);
+    }
+
+    /**
+     * Smallest recorded bucket value such that {@code percentile} percent of
+     * all values are at or below it, reported as the bucket's upper bound.
+     */
+    public long getValueAtPercentile(double percentile) {
+        if (count == 0) return 0;
+        double clamped = Math.min(Math.max(percentile, 0.0), 100.0);
+        long target = Math.max(1, (long) Math.ceil(clamped / 100.0 * count));
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += counts[i];
+            if (seen >= target) return Math.min(highestValueIn(i), max);
+        }
+        return max;
+    }
+
+    private static int indexOf(long value) {
+        if (value < LINEAR_LIMIT) return (int) value;
+        int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        return LINEAR_LIMIT + (shift - 1) * SUB_BUCKETS + (int) (value >>> shift) - SUB_BUCKETS;
+    }
+
+    private static long highestValueIn(int index) {
+        if (index < LINEAR_LIMIT) return index;
+        int shift = (index - LINEAR_LIMIT) / SUB_BUCKETS + 1;
+        long subBucket = (index - LINEAR_LIMIT) % SUB_BUCKETS + SUB_BUCKETS;
+        return ((subBucket + 1) << shift) - 1;
+    }
+}
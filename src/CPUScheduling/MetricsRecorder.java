@@ -0,0 +1,49 @@
+package CPUScheduling;
+
+/**
+ * Sink that accumulates {@link ScheduleMetrics} in a single pass as processes
+ * complete. Needs constant memory, so it also summarises streamed workloads
+ * that are never held in memory. Every kernel run feeds one of these and only
+ * ever hands out {@link #snapshot() snapshots}, so callers cannot alter a
+ * run's figures. A dispatch counts as a context switch when its pid differs
+ * from the previous dispatch's.
+ */
+final class MetricsRecorder implements ScheduleSink {
+    private long processCount;
+    private long totalTurnAroundTime;
+    private long totalBurstTime;
+    private int makespan;
+    private long contextSwitches;
+    private boolean dispatched;
+    private int lastPid;
+    private final LatencyHistogram waitingTimes = new LatencyHistogram();
+    private final LatencyHistogram responseTimes = new LatencyHistogram();
+
+    @Override
+    public void onDispatch(int pid, int time) {
+        if (dispatched && pid != lastPid) contextSwitches++;
+        dispatched = true;
+        lastPid = pid;
+    }
+
+    @Override
+    public void onFirstDispatch(int pid, int arrivalTime, int time) {
+        responseTimes.record(time - arrivalTime);
+    }
+
+    @Override
+    public void onCompletion(long index, int pid, int arrivalTime, int burstTime, int completionTime) {
+        int turnAroundTime = completionTime - arrivalTime;
+        processCount++;
+        totalTurnAroundTime += turnAroundTime;
+        totalBurstTime += burstTime;
+        makespan = Math.max(makespan, completionTime);
+        waitingTimes.record(turnAroundTime - burstTime);
+    }
+
+    /** The figures recorded so far; later events do not change it. */
+    ScheduleMetrics snapshot() {
+        return new ScheduleMetrics(processCount, totalTurnAroundTime, totalBurstTime, makespan, contextSwitches,
+                waitingTimes.copy(), responseTimes.copy());
+    }
+}
@@ -0,0 +1,146 @@
+package CPUScheduling;
+
+import java.util.Arrays;
+
+/**
+ * Runs a scheduling algorithm against a live feed of processes instead of a
+ * finished workload. Processes are {@link #submit submitted} in arrival order
+ * as they become known, and simulated time moves forward as far as the feed
+ * allows: up to the latest arrival, or further once {@link #advanceTo} states
+ * that nothing else arrives before a given time. Decisions and completions go
+ * to the {@link ScheduleSink} as they are made.
+ *
+ * Completed processes are forgotten, so memory follows the number of live
+ * processes rather than the length of the feed. Pids are assigned in
+ * submission order starting at 0. An instance is not thread-safe.
+ */
+public final class OnlineScheduler {
+    private final String name;
+    private final PendingArrivals pending;
+    private final SchedulingKernel kernel;
+    private int nextPid;
+    private long horizon = Long.MIN_VALUE;
+    private int lastArrivalTime;
+    private boolean finished;
+
+    /** @throws IllegalArgumentException if {@code scheduler} is not one of the built-in algorithms */
+    public OnlineScheduler(Scheduler scheduler, ScheduleSink sink) {
+        if (!(scheduler instanceof KernelScheduler))
+            throw new IllegalArgumentException(scheduler.getName() + " cannot run online");
+        KernelScheduler algorithm = (KernelScheduler) scheduler;
+        ProcessTable table = new ProcessTable();
+        this.name = scheduler.getName();
+        this.pending = new PendingArrivals();
+        this.kernel = new SchedulingKernel(pending, table, algorithm.newReadyQueue(table),
+                algorithm.quantum(), algorithm.preemptive(), sink);
+    }
+
+    /**
+     * Adds a process arriving at {@code arrivalTime} and advances the schedule
+     * up to that time.
+     *
+     * @return the pid given to the process
+     * @throws IllegalArgumentException if the process arrives before time already
+     *                                  simulated or before the previous arrival,
+     *                                  or its burst time is not positive
+     * @throws IllegalStateException    after {@link #finish()}
+     */
+    public int submit(int arrivalTime, int burstTime, int priority) {
+        if (finished)
+            throw new IllegalStateException("Online run already finished");
+        if (burstTime <= 0)
+            throw new IllegalArgumentException("Burst time must be positive");
+        if (arrivalTime < horizon || (nextPid > 0 && arrivalTime < lastArrivalTime))
+            throw new IllegalArgumentException("Arrival time " + arrivalTime + " is before time "
+                    + Math.max(horizon, lastArrivalTime) + ", which was already scheduled");
+
+        int pid = nextPid++;
+        pending.add(pid, arrivalTime, burstTime, priority);
+        lastArrivalTime = arrivalTime;
+        advanceTo(arrivalTime);
+        return pid;
+    }
+
+    /** Declares that nothing else arrives before {@code time} and schedules up to it. */
+    public void advanceTo(int time) {
+        if (time <= horizon) return;
+        horizon = time;
+        kernel.advance(time);
+    }
+
+    /** Declares the feed closed and runs every remaining process to completion. */
+    public ScheduleMetrics finish() {
+        finished = true;
+        horizon = Long.MAX_VALUE;
+        kernel.advance(Long.MAX_VALUE);
+        return kernel.getMetrics();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /** Metrics of every process completed so far, as of this call. */
+    public ScheduleMetrics getMetrics() {
+        return kernel.getMetrics();
+    }
+
+    public int getSubmittedCount() {
+        return nextPid;
+    }
+
+    /** Processes submitted but not yet arrived in simulated time, as a ring of parallel columns. */
+    private static final class PendingArrivals implements ArrivalSource {
+        private int[] pids = new int[16];
+        private int[] arrivalTimes = new int[16];
+        private int[] burstTimes = new int[16];
+        private int[] priorities = new int[16];
+        private int head;
+        private int size;
+
+        void add(int pid, int arrivalTime, int burstTime, int priority) {
+            if (size == pids.length) grow();
+            int tail = head + size;
+            if (tail >= pids.length) tail -= pids.length;
+            pids[tail] = pid;
+            arrivalTimes[tail] = arrivalTime;
+            burstTimes[tail] = burstTime;
+            priorities[tail] = priority;
+            size++;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return size > 0;
+        }
+
+        @Override
+        public int peekArrivalTime() {
+            return arrivalTimes[head];
+        }
+
+        @Override
+        public int admit(ProcessTable table) {
+            int slot = table.admit(pids[head], arrivalTimes[head], burstTimes[head], priorities[head]);
+            if (++head == pids.length) head = 0;
+            size--;
+            return slot;
+        }
+
+        private void grow() {
+            pids = unwrap(pids);
+            arrivalTimes = unwrap(arrivalTimes);
+            burstTimes = unwrap(burstTimes);
+            priorities = unwrap(priorities);
+            head = 0;
+        }
+
+        /** Doubles a full ring, moving its entries to the front in queue order. */
+        private int[] unwrap(int[] ring) {
+            int[] larger = Arrays.copyOf(ring, ring.length * 2);
+            System.arraycopy(ring, head, larger, 0, ring.length - head);
+            System.arraycopy(ring, 0, larger, ring.length - head, head);
+            return larger;
+        }
+    }
+}
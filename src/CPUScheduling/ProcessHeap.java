@@ -0,0 +1,77 @@
+package CPUScheduling;
+
+import java.util.Arrays;
+
+/**
+ * Binary min-heap of {@link ProcessTable} slots ordered by burst time or
+ * priority. Ties go to the earlier arrival, the same first-come rule a linear
+ * scan over an arrival-ordered list applies.
+ */
+class ProcessHeap implements ReadyQueue {
+    private final ProcessTable table;
+    private final boolean byPriority;
+    private int[] heap;
+    private int size;
+
+    ProcessHeap(ProcessTable table, boolean byPriority) {
+        this.table = table;
+        this.byPriority = byPriority;
+        this.heap = new int[16];
+        this.size = 0;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public int peek() {
+        return heap[0];
+    }
+
+    @Override
+    public void add(int slot) {
+        if (size == heap.length) heap = Arrays.copyOf(heap, size * 2);
+        int pos = size++;
+        while (pos > 0) {
+            int parent = (pos - 1) >>> 1;
+            if (!less(slot, heap[parent])) break;
+            heap[pos] = heap[parent];
+            pos = parent;
+        }
+        heap[pos] = slot;
+    }
+
+    @Override
+    public int poll() {
+        int top = heap[0];
+        int last = heap[--size];
+        int pos = 0;
+        int half = size >>> 1;
+        while (pos < half) {
+            int child = 2 * pos + 1;
+            if (child + 1 < size && less(heap[child + 1], heap[child])) child++;
+            if (!less(heap[child], last)) break;
+            heap[pos] = heap[child];
+            pos = child;
+        }
+        heap[pos] = last;
+        return top;
+    }
+
+    @Override
+    public boolean precedes(int a, int b) {
+        return less(a, b);
+    }
+
+    private boolean less(int a, int b) {
+        int[] key = byPriority ? table.priorities : table.burstTimes;
+        return key[a] < key[b] || (key[a] == key[b] && table.sequence[a] < table.sequence[b]);
+    }
+}
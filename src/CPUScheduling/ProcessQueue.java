@@ -0,0 +1,60 @@
+package CPUScheduling;
+
+import java.util.Arrays;
+
+/** FIFO of {@link ProcessTable} slots backed by an int ring buffer that grows by doubling. */
+class ProcessQueue implements ReadyQueue {
+    private int[] ring;
+    private int head;
+    private int size;
+
+    ProcessQueue() {
+        this.ring = new int[16];
+        this.head = 0;
+        this.size = 0;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public void add(int slot) {
+        if (size == ring.length) grow();
+        int tail = head + size;
+        if (tail >= ring.length) tail -= ring.length;
+        ring[tail] = slot;
+        size++;
+    }
+
+    @Override
+    public int peek() {
+        return ring[head];
+    }
+
+    @Override
+    public int poll() {
+        int slot = ring[head];
+        if (++head == ring.length) head = 0;
+        size--;
+        return slot;
+    }
+
+    @Override
+    public boolean precedes(int a, int b) {
+        return false;
+    }
+
+    private void grow() {
+        int[] larger = Arrays.copyOf(ring, ring.length * 2);
+        // Entries that wrapped around to the front now continue after the old end.
+        System.arraycopy(ring, 0, larger, ring.length, head);
+        ring = larger;
+    }
+}
@@ -0,0 +1,78 @@
+package CPUScheduling;
+
+import java.util.Arrays;
+
+/**
+ * Working state of the processes that have arrived but not yet completed,
+ * stored in recycled slots. Memory therefore follows the size of the ready
+ * set rather than the length of the workload.
+ *
+ * Each slot also records its admission sequence number. Processes are admitted
+ * in arrival order, so the sequence number doubles as the arrival-order
+ * tie-breaker and as the index into an in-memory {@link Workload}.
+ */
+class ProcessTable {
+    private static final int INITIAL_CAPACITY = 16;
+
+    int[] pids;
+    int[] arrivalTimes;
+    int[] burstTimes;
+    int[] priorities;
+    int[] remainingBurst;
+    long[] sequence;
+
+    private int[] freeSlots;
+    private int freeCount;
+    private int used;
+    private long admitted;
+
+    ProcessTable() {
+        pids = new int[INITIAL_CAPACITY];
+        arrivalTimes = new int[INITIAL_CAPACITY];
+        burstTimes = new int[INITIAL_CAPACITY];
+        priorities = new int[INITIAL_CAPACITY];
+        remainingBurst = new int[INITIAL_CAPACITY];
+        sequence = new long[INITIAL_CAPACITY];
+        freeSlots = new int[INITIAL_CAPACITY];
+        freeCount = 0;
+        used = 0;
+        admitted = 0;
+    }
+
+    int admit(int pid, int arrivalTime, int burstTime, int priority) {
+        int slot;
+        if (freeCount > 0) {
+            slot = freeSlots[--freeCount];
+        } else {
+            if (used == pids.length) grow();
+            slot = used++;
+        }
+        pids[slot] = pid;
+        arrivalTimes[slot] = arrivalTime;
+        burstTimes[slot] = burstTime;
+        priorities[slot] = priority;
+        remainingBurst[slot] = burstTime;
+        sequence[slot] = admitted++;
+        return slot;
+    }
+
+    void release(int slot) {
+        freeSlots[freeCount++] = slot;
+    }
+
+    /** Number of slots ever in use at once: the high-water mark of live processes. */
+    int capacityUsed() {
+        return used;
+    }
+
+    private void grow() {
+        int newCapacity = pids.length * 2;
+        pids = Arrays.copyOf(pids, newCapacity);
+        arrivalTimes = Arrays.copyOf(arrivalTimes, newCapacity);
+        burstTimes = Arrays.copyOf(burstTimes, newCapacity);
+        priorities = Arrays.copyOf(priorities, newCapacity);
+        remainingBurst = Arrays.copyOf(remainingBurst, newCapacity);
+        sequence = Arrays.copyOf(sequence, newCapacity);
+        freeSlots = Arrays.copyOf(freeSlots, newCapacity);
+    }
+}
@@ -0,0 +1,106 @@
+package CPUScheduling;
+
+import Model.ProcessStore;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.IntFunction;
+import java.util.stream.IntStream;
+
+/**
+ * Evaluates Round Robin for every quantum in a range, in parallel on the common
+ * fork-join pool. All runs read the same arrival-ordered {@link Workload} or
+ * {@link ProcessStore}, and only the aggregate numbers of each run are kept,
+ * never its Gantt chart. A sweep covers at most {@value #MAX_QUANTA} quanta.
+ */
+public final class QuantumSweep {
+    public static final int MAX_QUANTA = 10_000;
+
+    public static final class Point {
+        private final int quantum;
+        private final double averageTurnAroundTime;
+        private final double averageWaitingTime;
+        private final long contextSwitches;
+
+        Point(int quantum, double averageTurnAroundTime, double averageWaitingTime, long contextSwitches) {
+            this.quantum = quantum;
+            this.averageTurnAroundTime = averageTurnAroundTime;
+            this.averageWaitingTime = averageWaitingTime;
+            this.contextSwitches = contextSwitches;
+        }
+
+        public int getQuantum() {
+            return quantum;
+        }
+
+        public double getAverageTurnAroundTime() {
+            return averageTurnAroundTime;
+        }
+
+        public double getAverageWaitingTime() {
+            return averageWaitingTime;
+        }
+
+        public long getContextSwitches() {
+            return contextSwitches;
+        }
+    }
+
+    private final List<Point> points;
+    private final Point best;
+
+    private QuantumSweep(Point[] points) {
+        this.points = Collections.unmodifiableList(Arrays.asList(points));
+
+        Point best = null;
+        for (Point p : points) {
+            if (best == null
+                    || p.averageWaitingTime < best.averageWaitingTime
+                    || (p.averageWaitingTime == best.averageWaitingTime && p.contextSwitches < best.contextSwitches)) {
+                best = p;
+            }
+        }
+        this.best = best;
+    }
+
+    public static QuantumSweep run(Workload workload, int fromQuantum, int toQuantum) {
+        return run(fromQuantum, toQuantum, quantum -> new RoundRobin(quantum).stream(workload, ScheduleSink.NONE));
+    }
+
+    /**
+     * Streams a store whose records are sorted by arrival time once per
+     * quantum, so it may be larger than the heap.
+     *
+     * @throws IllegalStateException if the records are not in arrival order
+     */
+    public static QuantumSweep run(ProcessStore store, int fromQuantum, int toQuantum) {
+        return run(fromQuantum, toQuantum, quantum -> new RoundRobin(quantum).summarize(store));
+    }
+
+    private static QuantumSweep run(int fromQuantum, int toQuantum, IntFunction<ScheduleMetrics> roundRobin) {
+        if (fromQuantum <= 0 || toQuantum < fromQuantum)
+            throw new IllegalArgumentException("Quantum range must be positive and ascending");
+        if ((long) toQuantum - fromQuantum >= MAX_QUANTA)
+            throw new IllegalArgumentException("A sweep covers at most " + MAX_QUANTA + " quanta");
+
+        Point[] points = IntStream.rangeClosed(fromQuantum, toQuantum)
+                .parallel()
+                .mapToObj(quantum -> toPoint(quantum, roundRobin.apply(quantum)))
+                .toArray(Point[]::new);
+        return new QuantumSweep(points);
+    }
+
+    private static Point toPoint(int quantum, ScheduleMetrics metrics) {
+        return new Point(quantum, metrics.getAverageTurnAroundTime(), metrics.getAverageWaitingTime(),
+                metrics.getContextSwitches());
+    }
+
+    public List<Point> getPoints() {
+        return points;
+    }
+
+    /** Quantum with the lowest average waiting time; fewer context switches breaks ties. */
+    public Point getBest() {
+        return best;
+    }
+}
@@ -0,0 +1,20 @@
+package CPUScheduling;
+
+/**
+ * Ready-queue policy plugged into {@link SchedulingKernel}. Entries are
+ * {@link ProcessTable} slots.
+ */
+interface ReadyQueue {
+    void add(int slot);
+
+    int poll();
+
+    int peek();
+
+    boolean isEmpty();
+
+    int size();
+
+    /** Whether slot {@code a} should take the CPU from a running slot {@code b}. */
+    boolean precedes(int a, int b);
+}
@@ -0,0 +1,60 @@
+package CPUScheduling;
+
+/**
+ * Keeps only the last {@code capacity} Gantt segments in a ring buffer, so the
+ * tail of an arbitrarily long schedule can still be drawn. Back-to-back slices
+ * of one process are merged the same way {@link GanttChart} merges them.
+ */
+public class RecentGanttSink implements ScheduleSink {
+    private final int[] pids;
+    private final int[] startTimes;
+    private final int[] endTimes;
+    private int head;
+    private int size;
+    private long dropped;
+
+    public RecentGanttSink(int capacity) {
+        if (capacity <= 0)
+            throw new IllegalArgumentException("Capacity must be positive");
+        this.pids = new int[capacity];
+        this.startTimes = new int[capacity];
+        this.endTimes = new int[capacity];
+    }
+
+    @Override
+    public void onSlice(int pid, int startTime, int endTime) {
+        if (size > 0) {
+            int last = (head + size - 1) % pids.length;
+            if (pids[last] == pid && endTimes[last] == startTime) {
+                endTimes[last] = endTime;
+                return;
+            }
+        }
+        int slot;
+        if (size == pids.length) {
+            slot = head;
+            head = (head + 1) % pids.length;
+            dropped++;
+        } else {
+            slot = (head + size++) % pids.length;
+        }
+        pids[slot] = pid;
+        startTimes[slot] = startTime;
+        endTimes[slot] = endTime;
+    }
+
+    /** Number of older segments that no longer fit. */
+    public long getDroppedSegments() {
+        return dropped;
+    }
+
+    /** Copy of the segments currently kept, oldest first. */
+    public GanttChart toGanttChart() {
+        GanttChart chart = new GanttChart();
+        for (int i = 0; i < size; i++) {
+            int slot = (head + i) % pids.length;
+            chart.append(pids[slot], startTimes[slot], endTimes[slot]);
+        }
+        return chart;
+    }
+}
@@ -0,0 +1,182 @@
+package CPUScheduling;
+
+import Model.ProcessList;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Bounded LRU cache of schedules for the shared {@link ProcessList}, keyed by
+ * its {@link ProcessList#getFingerprint() fingerprint}, the algorithm and the
+ * time quantum. Repeating a run, re-running from the GUI or switching back to
+ * an algorithm returns the stored result without taking a new snapshot.
+ *
+ * Every entry belongs to one version of the process table: as soon as a
+ * lookup sees a different fingerprint or size, all entries are dropped. At
+ * most {@value #MAX_ENTRIES} entries are kept, within a byte budget of
+ * {@value #MAX_CACHED_BYTES} or a quarter of the heap, whichever is smaller.
+ * An entry is sized by what it holds: Gantt segments, which grow with total
+ * burst over the quantum rather than with the process count, the result and
+ * snapshot columns and the latency histograms. Results above the budget are
+ * computed but not stored.
+ *
+ * Only in-heap process lists are cached. A mapped store may be larger than the
+ * heap and would have to be scanned to fingerprint, so it is never scheduled
+ * in full and its summaries are always streamed afresh.
+ */
+public final class ScheduleCache {
+    static final int MAX_ENTRIES = 16;
+    static final long MAX_CACHED_BYTES = 256L << 20;
+
+    private static ScheduleCache INSTANCE = null;
+
+    private final LinkedHashMap<Key, ScheduleResult> entries = new LinkedHashMap<>(MAX_ENTRIES, 0.75f, true);
+    private final long maxCachedBytes;
+    private long cachedBytes;
+    private long fingerprint;
+    private long size = -1;
+
+    ScheduleCache(long maxCachedBytes) {
+        this.maxCachedBytes = maxCachedBytes;
+    }
+
+    public static synchronized ScheduleCache getInstance() {
+        if (INSTANCE == null)
+            INSTANCE = new ScheduleCache(Math.min(MAX_CACHED_BYTES, Runtime.getRuntime().maxMemory() / 4));
+        return INSTANCE;
+    }
+
+    /**
+     * The full schedule of the current processes, from the cache if possible.
+     *
+     * @throws IllegalArgumentException if the processes are not held in the heap
+     */
+    public ScheduleResult schedule(Scheduler scheduler, ProcessList processList) {
+        requireInHeap(processList);
+        Key key = keyFor(scheduler, processList);
+        ScheduleResult cached = lookup(key);
+        if (cached != null) return cached;
+
+        ScheduleResult result = scheduler.schedule(Workload.of(processList));
+        store(key, result, processList);
+        return result;
+    }
+
+    /**
+     * Schedules the current processes with each of {@code schedulers}, running
+     * the ones not cached in parallel on a single snapshot.
+     *
+     * @throws IllegalArgumentException if the processes are not held in the heap
+     */
+    public List<ScheduleResult> scheduleAll(List<Scheduler> schedulers, ProcessList processList) {
+        requireInHeap(processList);
+        List<ScheduleResult> results = new ArrayList<>(schedulers.size());
+        List<Scheduler> missing = new ArrayList<>();
+        List<Key> missingKeys = new ArrayList<>();
+        for (Scheduler scheduler : schedulers) {
+            Key key = keyFor(scheduler, processList);
+            ScheduleResult cached = lookup(key);
+            results.add(cached);
+            if (cached == null) {
+                missing.add(scheduler);
+                missingKeys.add(key);
+            }
+        }
+        if (missing.isEmpty()) return results;
+
+        List<ScheduleResult> computed = Comparison.runAll(Workload.of(processList), missing);
+        for (int i = 0, next = 0; i < results.size(); i++) {
+            if (results.get(i) != null) continue;
+            ScheduleResult result = computed.get(next);
+            store(missingKeys.get(next), result, processList);
+            results.set(i, result);
+            next++;
+        }
+        return results;
+    }
+
+    /**
+     * The metrics of the current processes. A mapped store may not fit in the
+     * heap, so it is streamed in arrival order and bypasses the cache; an
+     * in-heap list is scheduled in full through the cache.
+     *
+     * @throws IllegalStateException if a mapped store is not in arrival order
+     */
+    public ScheduleMetrics summarize(Scheduler scheduler, ProcessList processList) {
+        if (!processList.isInHeap()) return scheduler.summarize(processList.getStore());
+        return schedule(scheduler, processList).getMetrics();
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+        cachedBytes = 0;
+    }
+
+    private static void requireInHeap(ProcessList processList) {
+        if (!processList.isInHeap())
+            throw new IllegalArgumentException("Mapped processes can only be summarized, not scheduled in full");
+    }
+
+    private Key keyFor(Scheduler scheduler, ProcessList processList) {
+        int quantum = scheduler instanceof KernelScheduler ? ((KernelScheduler) scheduler).quantum() : 0;
+        return new Key(processList.getFingerprint(), processList.getStore().size(),
+                scheduler.getName(), quantum);
+    }
+
+    private synchronized ScheduleResult lookup(Key key) {
+        if (key.fingerprint != fingerprint || key.size != size) {
+            clear();
+            fingerprint = key.fingerprint;
+            size = key.size;
+        }
+        return entries.get(key);
+    }
+
+    /** Stores {@code result} unless it is over budget or the processes changed while it was computed. */
+    private synchronized void store(Key key, ScheduleResult result, ProcessList processList) {
+        long bytes = result.estimatedBytes();
+        if (bytes > maxCachedBytes) return;
+        if (key.fingerprint != processList.getFingerprint() || key.size != processList.getStore().size()) return;
+        if (key.fingerprint != fingerprint || key.size != size) return;
+
+        ScheduleResult previous = entries.put(key, result);
+        if (previous != null) cachedBytes -= previous.estimatedBytes();
+        cachedBytes += bytes;
+
+        Iterator<Map.Entry<Key, ScheduleResult>> eldest = entries.entrySet().iterator();
+        while (entries.size() > MAX_ENTRIES || cachedBytes > maxCachedBytes) {
+            cachedBytes -= eldest.next().getValue().estimatedBytes();
+            eldest.remove();
+        }
+    }
+
+    private static final class Key {
+        final long fingerprint;
+        final long size;
+        final String algorithm;
+        final int quantum;
+
+        Key(long fingerprint, long size, String algorithm, int quantum) {
+            this.fingerprint = fingerprint;
+            this.size = size;
+            this.algorithm = algorithm;
+            this.quantum = quantum;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Key)) return false;
+            Key other = (Key) o;
+            return fingerprint == other.fingerprint && size == other.size && quantum == other.quantum
+                    && algorithm.equals(other.algorithm);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(fingerprint, size, algorithm, quantum);
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package CPUScheduling;
+
+/**
+ * Aggregate figures of one schedule, as recorded by the run that produced it.
+ * Instances are immutable, so a result can be cached and shared between
+ * callers.
+ *
+ * Waiting and response times also go into {@link LatencyHistogram}s for
+ * percentiles. Response time is the delay from arrival to first dispatch.
+ */
+public final class ScheduleMetrics {
+    private final long processCount;
+    private final long totalTurnAroundTime;
+    private final long totalBurstTime;
+    private final int makespan;
+    private final long contextSwitches;
+    private final LatencyHistogram waitingTimes;
+    private final LatencyHistogram responseTimes;
+
+    ScheduleMetrics(long processCount, long totalTurnAroundTime, long totalBurstTime, int makespan,
+                    long contextSwitches, LatencyHistogram waitingTimes, LatencyHistogram responseTimes) {
+        this.processCount = processCount;
+        this.totalTurnAroundTime = totalTurnAroundTime;
+        this.totalBurstTime = totalBurstTime;
+        this.makespan = makespan;
+        this.contextSwitches = contextSwitches;
+        this.waitingTimes = waitingTimes;
+        this.responseTimes = responseTimes;
+    }
+
+    /** Approximate heap held by these figures, almost all of it in the two histograms. */
+    long estimatedBytes() {
+        return 2 * LatencyHistogram.ESTIMATED_BYTES;
+    }
+
+    public long getProcessCount() {
+        return processCount;
+    }
+
+    public long getTotalTurnAroundTime() {
+        return totalTurnAroundTime;
+    }
+
+    public long getTotalWaitingTime() {
+        return totalTurnAroundTime - totalBurstTime;
+    }
+
+    public double getAverageTurnAroundTime() {
+        return (double) totalTurnAroundTime / processCount;
+    }
+
+    public double getAverageWaitingTime() {
+        return (double) getTotalWaitingTime() / processCount;
+    }
+
+    public double getCPUUtilization() {
+        return makespan == 0 ? 0.0 : (double) totalBurstTime / makespan * 100;
+    }
+
+    /** Completed processes per time unit, measured from time 0 like CPU utilization. */
+    public double getThroughput() {
+        return makespan == 0 ? 0.0 : (double) processCount / makespan;
+    }
+
+    public LatencyHistogram getWaitingTimes() {
+        return waitingTimes;
+    }
+
+    public LatencyHistogram getResponseTimes() {
+        return responseTimes;
+    }
+
+    public int getMakespan() {
+        return makespan;
+    }
+
+    public long getContextSwitches() {
+        return contextSwitches;
+    }
+}
@@ -0,0 +1,87 @@
+package CPUScheduling;
+
+/**
+ * Immutable outcome of one {@link Scheduler} run. Per-process values are indexed
+ * like the {@link Workload} that was scheduled.
+ */
+public final class ScheduleResult {
+    private final String algorithmName;
+    private final Workload workload;
+    private final int[] completionTimes;
+    private final GanttChart ganttChart;
+    private final ScheduleMetrics metrics;
+
+    ScheduleResult(String algorithmName, Workload workload, int[] completionTimes, GanttChart ganttChart,
+                   ScheduleMetrics metrics) {
+        this.algorithmName = algorithmName;
+        this.workload = workload;
+        this.completionTimes = completionTimes;
+        this.ganttChart = ganttChart;
+        this.metrics = metrics;
+    }
+
+    public String getAlgorithmName() {
+        return algorithmName;
+    }
+
+    public Workload getWorkload() {
+        return workload;
+    }
+
+    public int size() {
+        return completionTimes.length;
+    }
+
+    public int getCompletionTime(int index) {
+        return completionTimes[index];
+    }
+
+    public int getTurnAroundTime(int index) {
+        return completionTimes[index] - workload.getArrivalTime(index);
+    }
+
+    public int getWaitingTime(int index) {
+        return getTurnAroundTime(index) - workload.getBurstTime(index);
+    }
+
+    public GanttChart getGanttChart() {
+        return ganttChart;
+    }
+
+    /**
+     * Approximate heap held by this result: 12 bytes per Gantt segment, the
+     * completion column and the four snapshot columns, plus the metrics.
+     */
+    long estimatedBytes() {
+        return 12L * ganttChart.size() + 4L * completionTimes.length + 16L * workload.size()
+                + metrics.estimatedBytes();
+    }
+
+    public ScheduleMetrics getMetrics() {
+        return metrics;
+    }
+
+    public long getContextSwitches() {
+        return metrics.getContextSwitches();
+    }
+
+    public long getTotalTurnAroundTime() {
+        return metrics.getTotalTurnAroundTime();
+    }
+
+    public long getTotalWaitingTime() {
+        return metrics.getTotalWaitingTime();
+    }
+
+    public double getAverageTurnAroundTime() {
+        return metrics.getAverageTurnAroundTime();
+    }
+
+    public double getAverageWaitingTime() {
+        return metrics.getAverageWaitingTime();
+    }
+
+    public double getCPUUtilization() {
+        return metrics.getCPUUtilization();
+    }
+}
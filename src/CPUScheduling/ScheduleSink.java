@@ -0,0 +1,56 @@
+package CPUScheduling;
+
+/**
+ * Receives scheduling events as the simulation produces them, so a schedule
+ * can be written out or summarised without ever being held in memory. Events
+ * for one run arrive in time order on the thread that runs the scheduler.
+ * Every method defaults to doing nothing.
+ */
+public interface ScheduleSink {
+    ScheduleSink NONE = new ScheduleSink() {};
+
+    /** {@code pid} takes the CPU at {@code time}. */
+    default void onDispatch(int pid, int time) {}
+
+    /** {@code pid} gets the CPU for the first time at {@code time}; follows its {@link #onDispatch}. */
+    default void onFirstDispatch(int pid, int arrivalTime, int time) {}
+
+    /** {@code pid} held the CPU from {@code startTime} until it completed or was preempted at {@code endTime}. */
+    default void onSlice(int pid, int startTime, int endTime) {}
+
+    /** {@code index} is the process's position in arrival order. */
+    default void onCompletion(long index, int pid, int arrivalTime, int burstTime, int completionTime) {}
+
+    /** The number of processes waiting in the ready queue changed to {@code length} at {@code time}. */
+    default void onReadyQueueLength(int time, int length) {}
+
+    /** Forwards every event to each of {@code sinks} in turn. */
+    static ScheduleSink of(ScheduleSink... sinks) {
+        return new ScheduleSink() {
+            @Override
+            public void onDispatch(int pid, int time) {
+                for (ScheduleSink sink : sinks) sink.onDispatch(pid, time);
+            }
+
+            @Override
+            public void onFirstDispatch(int pid, int arrivalTime, int time) {
+                for (ScheduleSink sink : sinks) sink.onFirstDispatch(pid, arrivalTime, time);
+            }
+
+            @Override
+            public void onSlice(int pid, int startTime, int endTime) {
+                for (ScheduleSink sink : sinks) sink.onSlice(pid, startTime, endTime);
+            }
+
+            @Override
+            public void onCompletion(long index, int pid, int arrivalTime, int burstTime, int completionTime) {
+                for (ScheduleSink sink : sinks) sink.onCompletion(index, pid, arrivalTime, burstTime, completionTime);
+            }
+
+            @Override
+            public void onReadyQueueLength(int time, int length) {
+                for (ScheduleSink sink : sinks) sink.onReadyQueueLength(time, length);
+            }
+        };
+    }
+}
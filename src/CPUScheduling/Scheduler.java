@@ -0,0 +1,34 @@
+package CPUScheduling;
+
+import Model.ProcessStore;
+
+/**
+ * A CPU scheduling algorithm. Implementations keep no per-run state, so one
+ * instance may schedule several workloads at once from different threads.
+ */
+public interface Scheduler {
+    String getName();
+
+    ScheduleResult schedule(Workload workload);
+
+    /**
+     * Runs {@code workload} and hands every event to {@code sink} as it
+     * happens instead of building a {@link ScheduleResult}.
+     */
+    ScheduleMetrics stream(Workload workload, ScheduleSink sink);
+
+    /**
+     * Streams a store whose records are sorted by arrival time, handing every
+     * event to {@code sink}. Memory stays proportional to the number of
+     * processes alive at once, so the store may be larger than the heap.
+     *
+     * @throws IllegalStateException    if the records are not in arrival order
+     * @throws IllegalArgumentException if the store holds more than
+     *                                  {@link Integer#MAX_VALUE} records, as pids are ints
+     */
+    ScheduleMetrics stream(ProcessStore store, ScheduleSink sink);
+
+    default ScheduleMetrics summarize(ProcessStore store) {
+        return stream(store, ScheduleSink.NONE);
+    }
+}
@@ -0,0 +1,161 @@
+package CPUScheduling;
+
+/**
+ * Discrete-event simulation core shared by every scheduling algorithm.
+ *
+ * The clock only moves between events, so idle gaps and long bursts cost one
+ * step each. With a single CPU there are never more than two pending timed
+ * events: the next arrival from the {@link ArrivalSource} and the end of the
+ * running slice. The event queue therefore reduces to comparing those two
+ * timestamps; dispatch happens immediately whenever the CPU is free.
+ *
+ * Arrivals are pulled from the source one at a time into a {@link ProcessTable}
+ * slot and released on completion, so a run needs memory for the live
+ * processes only, however long the workload is.
+ *
+ * Every event goes to the run's own {@link MetricsRecorder} and then to the
+ * caller's {@link ScheduleSink}.
+ *
+ * A run can also be advanced in steps up to a horizon, for sources that are
+ * still receiving arrivals: an event is only handled once every arrival up to
+ * its time is known, because such an arrival could change the decision.
+ *
+ * Algorithms differ only in the {@link ReadyQueue} they plug in, their time
+ * quantum and whether an arrival may preempt the running process. A kernel
+ * instance holds the state of exactly one run.
+ */
+class SchedulingKernel {
+    static final int NO_QUANTUM = Integer.MAX_VALUE;
+
+    enum EventType { ARRIVAL, DISPATCH, QUANTUM_EXPIRY, COMPLETION }
+
+    private final ArrivalSource source;
+    private final ProcessTable table;
+    private final ReadyQueue readyQueue;
+    private final int quantum;
+    private final boolean preemptive;
+    private final ScheduleSink sink;
+    private final MetricsRecorder metrics;
+
+    private int time;
+    private int lastArrivalTime;
+    private int running;
+    private int sliceStart;
+    private int sliceEnd;
+    private int reportedQueueLength;
+
+    SchedulingKernel(ArrivalSource source, ProcessTable table, ReadyQueue readyQueue,
+                     int quantum, boolean preemptive, ScheduleSink sink) {
+        this.source = source;
+        this.table = table;
+        this.readyQueue = readyQueue;
+        this.quantum = quantum;
+        this.preemptive = preemptive;
+        this.sink = sink;
+        this.metrics = new MetricsRecorder();
+        this.time = 0;
+        this.lastArrivalTime = Integer.MIN_VALUE;
+        this.running = -1;
+    }
+
+    ScheduleMetrics run() {
+        advance(Long.MAX_VALUE);
+        return metrics.snapshot();
+    }
+
+    /**
+     * Handles every event that happens before {@code horizon}. The source must
+     * already hold every arrival before that time.
+     */
+    void advance(long horizon) {
+        EventType event;
+        while ((event = nextEvent(horizon)) != null) {
+            switch (event) {
+                case ARRIVAL:
+                    onArrival();
+                    break;
+                case DISPATCH:
+                    onDispatch();
+                    break;
+                case QUANTUM_EXPIRY:
+                case COMPLETION:
+                    onSliceEnd(event);
+                    break;
+            }
+            if (readyQueue.size() != reportedQueueLength) {
+                reportedQueueLength = readyQueue.size();
+                sink.onReadyQueueLength(time, reportedQueueLength);
+            }
+        }
+    }
+
+    ScheduleMetrics getMetrics() {
+        return metrics.snapshot();
+    }
+
+    private EventType nextEvent(long horizon) {
+        if (running == -1) {
+            if (!readyQueue.isEmpty()) return time < horizon ? EventType.DISPATCH : null;
+            return source.hasNext() && source.peekArrivalTime() < horizon ? EventType.ARRIVAL : null;
+        }
+        // Arrivals at exactly sliceEnd are admitted by onSliceEnd, ahead of a requeued process.
+        if (source.hasNext() && source.peekArrivalTime() < sliceEnd) {
+            return source.peekArrivalTime() < horizon ? EventType.ARRIVAL : null;
+        }
+        if (sliceEnd >= horizon) return null;
+        return table.remainingBurst[running] == sliceEnd - sliceStart ? EventType.COMPLETION : EventType.QUANTUM_EXPIRY;
+    }
+
+    private void onArrival() {
+        time = Math.max(time, source.peekArrivalTime());
+        admitArrivals();
+
+        if (running != -1 && preemptive && readyQueue.precedes(readyQueue.peek(), running)) {
+            table.remainingBurst[running] -= time - sliceStart;
+            sink.onSlice(table.pids[running], sliceStart, time);
+            readyQueue.add(running);
+            running = -1;
+        }
+    }
+
+    private void onDispatch() {
+        running = readyQueue.poll();
+        int pid = table.pids[running];
+        metrics.onDispatch(pid, time);
+        sink.onDispatch(pid, time);
+        if (table.remainingBurst[running] == table.burstTimes[running]) {
+            metrics.onFirstDispatch(pid, table.arrivalTimes[running], time);
+            sink.onFirstDispatch(pid, table.arrivalTimes[running], time);
+        }
+        sliceStart = time;
+        sliceEnd = time + Math.min(table.remainingBurst[running], quantum);
+    }
+
+    private void onSliceEnd(EventType event) {
+        time = sliceEnd;
+        table.remainingBurst[running] -= sliceEnd - sliceStart;
+        sink.onSlice(table.pids[running], sliceStart, time);
+        admitArrivals();
+
+        if (event == EventType.COMPLETION) {
+            long index = table.sequence[running];
+            int pid = table.pids[running];
+            metrics.onCompletion(index, pid, table.arrivalTimes[running], table.burstTimes[running], time);
+            sink.onCompletion(index, pid, table.arrivalTimes[running], table.burstTimes[running], time);
+            table.release(running);
+        } else {
+            readyQueue.add(running);
+        }
+        running = -1;
+    }
+
+    private void admitArrivals() {
+        while (source.hasNext() && source.peekArrivalTime() <= time) {
+            int arrivalTime = source.peekArrivalTime();
+            if (arrivalTime < lastArrivalTime)
+                throw new IllegalStateException("Processes must be stored in arrival order");
+            lastArrivalTime = arrivalTime;
+            readyQueue.add(source.admit(table));
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package CPUScheduling;
+
+import Model.Process;
+import Model.ProcessList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Immutable snapshot of the processes to schedule, stored in arrival order
+ * (ties keep their input order). Taking the snapshot is the only time the
+ * source {@link Process} objects are read, so later edits to them never affect
+ * a schedule that is already running, and one snapshot can be shared by any
+ * number of concurrent {@link Scheduler} runs.
+ */
+public final class Workload {
+    private final int[] pids;
+    private final int[] arrivalTimes;
+    private final int[] burstTimes;
+    private final int[] priorities;
+
+    private Workload(int[] pids, int[] arrivalTimes, int[] burstTimes, int[] priorities) {
+        this.pids = pids;
+        this.arrivalTimes = arrivalTimes;
+        this.burstTimes = burstTimes;
+        this.priorities = priorities;
+    }
+
+    public static Workload of(ProcessList processList) {
+        int n = processList.getSize();
+        int[] arrivalTimes = new int[n];
+        int[] burstTimes = new int[n];
+        int[] priorities = new int[n];
+        for (int pid = 0; pid < n; pid++) {
+            arrivalTimes[pid] = processList.getArrivalTime(pid);
+            burstTimes[pid] = processList.getBurstTime(pid);
+            priorities[pid] = processList.getPriority(pid);
+        }
+        return inArrivalOrder(identity(n), arrivalTimes, burstTimes, priorities);
+    }
+
+    public static Workload of(List<Process> processes) {
+        int n = processes.size();
+        int[] pids = new int[n];
+        int[] arrivalTimes = new int[n];
+        int[] burstTimes = new int[n];
+        int[] priorities = new int[n];
+        for (int i = 0; i < n; i++) {
+            Process p = processes.get(i);
+            pids[i] = p.getPid();
+            arrivalTimes[i] = p.getArrivalTime();
+            burstTimes[i] = p.getBurstTime();
+            priorities[i] = p.getPriority();
+        }
+        return inArrivalOrder(pids, arrivalTimes, burstTimes, priorities);
+    }
+
+    /**
+     * Reorders the columns by arrival time, keeping input order for ties. Each
+     * row is packed as (arrival, input position) into one long, so a primitive
+     * sort is stable without boxing. Input that is already ordered is kept as is.
+     */
+    private static Workload inArrivalOrder(int[] pids, int[] arrivalTimes, int[] burstTimes, int[] priorities) {
+        int n = pids.length;
+        boolean sorted = true;
+        for (int i = 1; i < n && sorted; i++) {
+            sorted = arrivalTimes[i - 1] <= arrivalTimes[i];
+        }
+        if (sorted) return new Workload(pids, arrivalTimes, burstTimes, priorities);
+
+        long[] keys = new long[n];
+        for (int i = 0; i < n; i++) {
+            keys[i] = ((long) arrivalTimes[i] << 32) | i;
+        }
+        Arrays.parallelSort(keys);
+
+        int[] sortedPids = new int[n];
+        int[] sortedArrivals = new int[n];
+        int[] sortedBursts = new int[n];
+        int[] sortedPriorities = new int[n];
+        for (int i = 0; i < n; i++) {
+            int from = (int) keys[i];
+            sortedPids[i] = pids[from];
+            sortedArrivals[i] = arrivalTimes[from];
+            sortedBursts[i] = burstTimes[from];
+            sortedPriorities[i] = priorities[from];
+        }
+        return new Workload(sortedPids, sortedArrivals, sortedBursts, sortedPriorities);
+    }
+
+    private static int[] identity(int n) {
+        int[] pids = new int[n];
+        for (int i = 0; i < n; i++) pids[i] = i;
+        return pids;
+    }
+
+    public int size() {
+        return pids.length;
+    }
+
+    public int getPid(int index) {
+        return pids[index];
+    }
+
+    public int getArrivalTime(int index) {
+        return arrivalTimes[index];
+    }
+
+    public int getBurstTime(int index) {
+        return burstTimes[index];
+    }
+
+    public int getPriority(int index) {
+        return priorities[index];
+    }
+
+    /** Streams this snapshot into a kernel; pids are the snapshot's own. */
+    ArrivalSource arrivals() {
+        return new ArrivalSource() {
+            private int next = 0;
+
+            @Override
+            public boolean hasNext() {
+                return next < pids.length;
+            }
+
+            @Override
+            public int peekArrivalTime() {
+                return arrivalTimes[next];
+            }
+
+            @Override
+            public int admit(ProcessTable table) {
+                int index = next++;
+                return table.admit(pids[index], arrivalTimes[index], burstTimes[index], priorities[index]);
+            }
+        };
+    }
+}
@@ -0,0 +1,305 @@
+package Controller;
+
+import CPUScheduling.ScheduleCache;
+import MemoryManagement.Paging;
+import MemoryManagement.Segmentation;
+import Model.Process;
+import Model.ProcessList;
+import Model.ProcessStore;
+import Model.WorkloadGenerator;
+import UI.Terminal;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * End-to-end scaling report. Workloads of doubling size are generated into a
+ * scratch store and run through the regular scheduling and memory handlers
+ * with their display turned off, so the timings cover exactly what the user
+ * commands do. The user's own processes are put back afterwards.
+ */
+public class BenchHandler {
+    private static final int DEFAULT_FROM = 1000;
+    private static final int DEFAULT_TO = 1_024_000;
+    private static final double DEFAULT_LIMIT_SECONDS = 5;
+    private static final int FRAME_SIZE = 256;
+    private static final double MIN_FIT_MILLIS = 10;
+    private static final long WARMUP_NANOS = 500_000_000;
+    private static final int MAX_REPEATS = 3;
+    private static final long REPEAT_BUDGET_NANOS = 1_000_000_000;
+
+    private final ProcessList processList;
+    private final CPUSchedulingHandler schedulingHandler;
+    private final MemoryManagementHandler memoryHandler;
+
+    public BenchHandler(CPUSchedulingHandler schedulingHandler, MemoryManagementHandler memoryHandler) {
+        this.processList = ProcessList.getInstance();
+        this.schedulingHandler = schedulingHandler;
+        this.memoryHandler = memoryHandler;
+    }
+
+    public void benchCommand(String[] args) {
+        if (args.length == 0) {
+            System.out.println(Terminal.RED + "Usage: bench <sjf|prioritynp|priorityp|rr|paging|segmentation> [from=N] [to=N] [limit=SECONDS] [levels=B,B[,B]]" + Terminal.RESET);
+            return;
+        }
+
+        String target = args[0].toLowerCase();
+        switch (target) {
+            case "sjf":
+            case "prioritynp":
+            case "priorityp":
+            case "rr":
+            case "paging":
+            case "segmentation":
+                break;
+            default:
+                System.out.println(Terminal.RED + "Error: Unknown target '" + args[0] + "' (sjf, prioritynp, priorityp, rr, paging, segmentation)" + Terminal.RESET);
+                return;
+        }
+
+        int from = DEFAULT_FROM;
+        int to = DEFAULT_TO;
+        double limitSeconds = DEFAULT_LIMIT_SECONDS;
+        int[] levelBits = null;
+        for (int i = 1; i < args.length; i++) {
+            String[] option = args[i].split("=", 2);
+            if (option.length != 2) {
+                System.out.println(Terminal.RED + "Error: Expected key=value, got '" + args[i] + "'" + Terminal.RESET);
+                return;
+            }
+            try {
+                switch (option[0].toLowerCase()) {
+                    case "from":
+                        from = Integer.parseInt(option[1]);
+                        break;
+                    case "to":
+                        to = Integer.parseInt(option[1]);
+                        break;
+                    case "limit":
+                        limitSeconds = Double.parseDouble(option[1]);
+                        break;
+                    case "levels":
+                        levelBits = MemoryManagementHandler.parseLevelBits(option[1]);
+                        break;
+                    default:
+                        System.out.println(Terminal.RED + "Error: Unknown option '" + option[0] + "' (from, to, limit, levels)" + Terminal.RESET);
+                        return;
+                }
+            } catch (NumberFormatException e) {
+                System.out.println(Terminal.RED + "Error: Invalid value in '" + args[i] + "'" + Terminal.RESET);
+                return;
+            } catch (IllegalArgumentException e) {
+                System.out.println(Terminal.RED + "Error: " + e.getMessage() + Terminal.RESET);
+                return;
+            }
+        }
+        if (from <= 0 || to < from || !(limitSeconds > 0)) {
+            System.out.println(Terminal.RED + "Error: Sizes must be positive and ascending, and the limit positive!" + Terminal.RESET);
+            return;
+        }
+
+        System.out.println(Terminal.CYAN + "\n>> Benchmarking " + target + " from " + from + " to " + to + " processes..." + Terminal.RESET);
+        System.out.println(Terminal.CYAN + "┌────────────┬────────────┬────────────┬────────────┬──────────┐" + Terminal.RESET);
+        System.out.println(Terminal.CYAN + "│ Processes  │ Wall (ms)  │ ns/process │ Allocated  │ GC (ms)  │" + Terminal.RESET);
+        System.out.println(Terminal.CYAN + "├────────────┼────────────┼────────────┼────────────┼──────────┤" + Terminal.RESET);
+
+        List<Sample> samples = new ArrayList<>();
+        String stopReason = null;
+        ProcessStore userStore = processList.getStore();
+        Paging userPaging = memoryHandler.getPagingSystem();
+        Segmentation userSegmentation = memoryHandler.getSegmentationSystem();
+        schedulingHandler.setDisplayEnabled(false);
+        memoryHandler.setDisplayEnabled(false);
+        try {
+            processList.useHeapStore();
+            // Untimed single runs first, so the small sizes are not measured in the interpreter.
+            // One run that already outlasts the warm-up is enough, and a size that cannot run is reported below.
+            long warmupEnd = System.nanoTime() + WARMUP_NANOS;
+            Sample warmup;
+            do {
+                warmup = measure(target, from, levelBits, 1);
+            } while (warmup != null && warmup.wallNanos <= WARMUP_NANOS && System.nanoTime() < warmupEnd);
+            for (long size = from; size <= to; size *= 2) {
+                Sample sample = measure(target, (int) size, levelBits, MAX_REPEATS);
+                if (sample == null) {
+                    stopReason = "Stopped: " + size + " processes need more memory than an int can address";
+                    break;
+                }
+                samples.add(sample);
+                displaySample(sample);
+                if (sample.wallNanos > limitSeconds * 1e9 && size * 2 <= to) {
+                    stopReason = "Stopped: the last run took longer than " + limitSeconds + " s";
+                    break;
+                }
+            }
+        } catch (OutOfMemoryError e) {
+            stopReason = "Stopped: out of heap memory";
+        } finally {
+            processList.setStore(userStore);
+            memoryHandler.setPagingSystem(userPaging);
+            memoryHandler.setSegmentationSystem(userSegmentation);
+            ScheduleCache.getInstance().clear();
+            schedulingHandler.setDisplayEnabled(true);
+            memoryHandler.setDisplayEnabled(true);
+        }
+
+        System.out.println(Terminal.CYAN + "└────────────┴────────────┴────────────┴────────────┴──────────┘" + Terminal.RESET);
+        if (stopReason != null) {
+            System.out.println(Terminal.YELLOW + stopReason + Terminal.RESET);
+        }
+        displayFit(samples);
+    }
+
+    /**
+     * Generates {@code size} processes and keeps the fastest of up to
+     * {@code maxRepeats} runs; null if the memory would not fit.
+     */
+    private Sample measure(String target, int size, int[] levelBits, int maxRepeats) {
+        processList.clear();
+        new WorkloadGenerator().generate(processList, size);
+
+        long memory = 0;
+        List<Segmentation.ProcessInfo> segments = null;
+        if (target.equals("paging")) {
+            for (Process p : processList.getProcesses()) {
+                memory += (p.getMemorySize() + FRAME_SIZE - 1) / FRAME_SIZE * (long) FRAME_SIZE;
+            }
+        } else if (target.equals("segmentation")) {
+            segments = new ArrayList<>(size);
+            for (Process p : processList.getProcesses()) {
+                Segmentation.ProcessInfo processInfo = new Segmentation.ProcessInfo(p.getPid());
+                int code = p.getMemorySize() / 4;
+                int data = p.getMemorySize() / 2;
+                processInfo.addSegment("code", code);
+                processInfo.addSegment("data", data);
+                processInfo.addSegment("stack", p.getMemorySize() - code - data);
+                segments.add(processInfo);
+                memory += p.getMemorySize();
+            }
+        }
+        if (memory > Integer.MAX_VALUE) return null;
+
+        Sample best = null;
+        long budgetEnd = System.nanoTime() + REPEAT_BUDGET_NANOS;
+        for (int run = 0; run < maxRepeats && (run == 0 || System.nanoTime() < budgetEnd); run++) {
+            Sample sample = run(target, size, (int) memory, segments, levelBits);
+            if (best == null || sample.wallNanos < best.wallNanos) best = sample;
+        }
+        return best;
+    }
+
+    private Sample run(String target, int size, int memory, List<Segmentation.ProcessInfo> segments, int[] levelBits) {
+        // Repeats must compute the schedule again rather than hit the result cache.
+        ScheduleCache.getInstance().clear();
+        System.gc();
+        long gcBefore = gcMillis();
+        long allocatedBefore = allocatedBytes();
+        long start = System.nanoTime();
+
+        switch (target) {
+            case "paging":
+                memoryHandler.runPaging(memory, FRAME_SIZE, levelBits);
+                break;
+            case "segmentation":
+                memoryHandler.runSegmentation(memory, segments);
+                break;
+            default:
+                schedulingHandler.runCommand(target);
+        }
+
+        long wallNanos = System.nanoTime() - start;
+        long allocatedAfter = allocatedBytes();
+        long allocated = allocatedBefore < 0 ? -1 : allocatedAfter - allocatedBefore;
+        return new Sample(size, wallNanos, allocated, gcMillis() - gcBefore);
+    }
+
+    private void displaySample(Sample sample) {
+        System.out.printf(Terminal.WHITE_BOLD + "│ %10d │ %10.2f │ %10.1f │ %10s │ %8d │\n" + Terminal.RESET,
+                sample.size,
+                sample.wallNanos / 1e6,
+                (double) sample.wallNanos / sample.size,
+                formatBytes(sample.allocatedBytes),
+                sample.gcMillis);
+    }
+
+    /**
+     * Least-squares slope of log(time) over log(size), so time grows like
+     * size^slope. Only the larger half of the sizes is used: small runs are
+     * dominated by fixed costs and JIT warm-up rather than by the algorithm.
+     */
+    private void displayFit(List<Sample> samples) {
+        double sumX = 0, sumY = 0, sumXX = 0, sumXY = 0;
+        int n = 0;
+        for (Sample sample : samples.subList(samples.size() / 2, samples.size())) {
+            if (sample.wallNanos < MIN_FIT_MILLIS * 1e6) continue;
+            double x = Math.log(sample.size);
+            double y = Math.log(sample.wallNanos);
+            sumX += x;
+            sumY += y;
+            sumXX += x * x;
+            sumXY += x * y;
+            n++;
+        }
+        if (n < 2) {
+            System.out.println(Terminal.YELLOW + "Not enough large runs to fit a complexity exponent; raise 'to'." + Terminal.RESET);
+            return;
+        }
+
+        double exponent = (n * sumXY - sumX * sumY) / (n * sumXX - sumX * sumX);
+        String color;
+        String verdict;
+        if (exponent < 1.25) {
+            color = Terminal.GREEN;
+            verdict = "close to linear";
+        } else if (exponent < 1.75) {
+            color = Terminal.YELLOW;
+            verdict = "superlinear";
+        } else {
+            color = Terminal.RED;
+            verdict = "quadratic or worse";
+        }
+        System.out.println(color + String.format("✓ Empirical complexity: O(n^%.2f), %s (fitted over %d runs)", exponent, verdict, n) + Terminal.RESET);
+    }
+
+    private static long gcMillis() {
+        long total = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            total += Math.max(gc.getCollectionTime(), 0);
+        }
+        return total;
+    }
+
+    /** Bytes allocated so far by this thread, or -1 if the JVM cannot tell. */
+    private static long allocatedBytes() {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        if (threads instanceof com.sun.management.ThreadMXBean) {
+            return ((com.sun.management.ThreadMXBean) threads).getCurrentThreadAllocatedBytes();
+        }
+        return -1;
+    }
+
+    private static String formatBytes(long bytes) {
+        if (bytes < 0) return "n/a";
+        if (bytes < 1024) return bytes + " B";
+        if (bytes < 1024 * 1024) return String.format("%.1f KB", bytes / 1024.0);
+        if (bytes < 1024L * 1024 * 1024) return String.format("%.1f MB", bytes / (1024.0 * 1024));
+        return String.format("%.2f GB", bytes / (1024.0 * 1024 * 1024));
+    }
+
+    private static final class Sample {
+        final int size;
+        final long wallNanos;
+        final long allocatedBytes;
+        final long gcMillis;
+
+        Sample(int size, long wallNanos, long allocatedBytes, long gcMillis) {
+            this.size = size;
+            this.wallNanos = wallNanos;
+            this.allocatedBytes = allocatedBytes;
+            this.gcMillis = gcMillis;
+        }
+    }
+}
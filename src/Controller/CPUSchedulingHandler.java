@@ -3,15 +3,27 @@ package Controller;
 import CPUScheduling.*;
 import Model.Process;
 import Model.ProcessList;
+import Model.ProcessStore;
 import UI.Terminal;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.List;
 import java.util.Scanner;
 
 public class CPUSchedulingHandler {
 
     private final ProcessList processList;
     private final Scanner scanner;
+    private static final int FOLLOW_POLL_MILLIS = 200;
+
     private int timeQuantum = 2;
+    private boolean displayEnabled = true;
 
     public CPUSchedulingHandler(Scanner scanner) {
         this.processList = ProcessList.getInstance();
@@ -19,7 +31,7 @@ public class CPUSchedulingHandler {
     }
 
     public void showSchedulingMenu() {
-        if (processList.getSize() == 0) {
+        if (processList.isEmpty()) {
             System.out.println(Terminal.RED + "Error: No processes available. Please add processes first." + Terminal.RESET);
             return;
         }
@@ -64,7 +76,7 @@ public class CPUSchedulingHandler {
     }
 
     public void runSJFCommand() {
-        if (processList.getSize() == 0) {
+        if (processList.isEmpty()) {
             System.out.println(Terminal.RED + "Error: No processes available." + Terminal.RESET);
             return;
         }
@@ -72,7 +84,7 @@ public class CPUSchedulingHandler {
     }
 
     public void runPriorityNPCommand() {
-        if (processList.getSize() == 0) {
+        if (processList.isEmpty()) {
             System.out.println(Terminal.RED + "Error: No processes available." + Terminal.RESET);
             return;
         }
@@ -81,7 +93,7 @@ public class CPUSchedulingHandler {
     }
 
     public void runPriorityPCommand() {
-        if (processList.getSize() == 0) {
+        if (processList.isEmpty()) {
             System.out.println(Terminal.RED + "Error: No processes available." + Terminal.RESET);
             return;
         }
@@ -90,18 +102,28 @@ public class CPUSchedulingHandler {
     }
 
     public void runRRCommand() {
-        if (processList.getSize() == 0) {
+        if (processList.isEmpty()) {
             System.out.println(Terminal.RED + "Error: No processes available." + Terminal.RESET);
             return;
         }
-        ArrayList<Process> processes = new ArrayList<>(processList.getProcesses());
-        RoundRobin.apply(processes, timeQuantum);
-        displayResults("Round Robin (Q=" + timeQuantum + ")",
-                RoundRobin.getProcessesList(),
-                RoundRobin.getGanttChart(),
-                RoundRobin.getAverageTurnAroundTime(),
-                RoundRobin.getAverageWaitingTime(),
-                RoundRobin.getCPUUtilization());
+        runScheduler(new RoundRobin(timeQuantum));
+    }
+
+    /**
+     * Runs {@code algorithm} (sjf, prioritynp, priorityp or rr) through the same
+     * path as its run command.
+     *
+     * @return false if the algorithm is unknown or cannot run on these processes
+     */
+    public boolean runCommand(String algorithm) {
+        Scheduler scheduler = selectScheduler(algorithm);
+        if (scheduler == null) return false;
+        runScheduler(scheduler);
+        return true;
+    }
+
+    public void setDisplayEnabled(boolean displayEnabled) {
+        this.displayEnabled = displayEnabled;
     }
 
     public void setTimeQuantum(int quantum) {
@@ -113,18 +135,39 @@ public class CPUSchedulingHandler {
         System.out.println(Terminal.GREEN + "✓ Time quantum set to: " + quantum + Terminal.RESET);
     }
 
+    public void compareCommand() {
+        if (processList.isEmpty()) {
+            System.out.println(Terminal.RED + "Error: No processes available." + Terminal.RESET);
+            return;
+        }
+
+        boolean includePriority = hasAllPriorities();
+        if (!includePriority) {
+            System.out.println(Terminal.YELLOW + "Note: Priority algorithms skipped, not all priorities are set." + Terminal.RESET);
+        }
+
+        System.out.println(Terminal.CYAN + "\n>> Comparing algorithms (Quantum = " + timeQuantum + ")..." + Terminal.RESET);
+        List<Scheduler> schedulers = Comparison.allAlgorithms(timeQuantum, includePriority);
+        List<ScheduleMetrics> metrics = new ArrayList<>();
+        if (processList.isInHeap()) {
+            for (ScheduleResult result : ScheduleCache.getInstance().scheduleAll(schedulers, processList)) {
+                metrics.add(result.getMetrics());
+            }
+        } else {
+            try {
+                metrics = Comparison.summarizeAll(processList.getStore(), schedulers);
+            } catch (IllegalArgumentException | IllegalStateException e) {
+                reportScheduleError(e);
+                return;
+            }
+        }
+        displayComparison(schedulers, metrics);
+    }
+
     private void runSJF() {
         System.out.println(Terminal.CYAN + "\n>> Running Shortest Job First (SJF)..." + Terminal.RESET);
 
-        ArrayList<Process> processes = new ArrayList<>(processList.getProcesses());
-        SJF.apply(processes);
-
-        displayResults("Shortest Job First (SJF)",
-                SJF.getProcessesList(),
-                SJF.getGanttChart(),
-                SJF.getAverageTurnAroundTime(),
-                SJF.getAverageWaitingTime(),
-                SJF.getCPUUtilization());
+        runScheduler(new SJF());
     }
 
     private void runPriorityNonPreemptive() {
@@ -132,15 +175,7 @@ public class CPUSchedulingHandler {
 
         System.out.println(Terminal.CYAN + "\n>> Running Priority Non-Preemptive..." + Terminal.RESET);
 
-        ArrayList<Process> processes = new ArrayList<>(processList.getProcesses());
-        Priority.applyNonPreemptive(processes);
-
-        displayResults("Priority Non-Preemptive",
-                Priority.getProcessesList(),
-                Priority.getGanttChart(),
-                Priority.getAverageTurnAroundTime(),
-                Priority.getAverageWaitingTime(),
-                Priority.getCPUUtilization());
+        runScheduler(new Priority(false));
     }
 
     private void runPriorityPreemptive() {
@@ -148,15 +183,7 @@ public class CPUSchedulingHandler {
 
         System.out.println(Terminal.CYAN + "\n>> Running Priority Preemptive..." + Terminal.RESET);
 
-        ArrayList<Process> processes = new ArrayList<>(processList.getProcesses());
-        Priority.applyPreemptive(processes);
-
-        displayResults("Priority Preemptive",
-                Priority.getProcessesList(),
-                Priority.getGanttChart(),
-                Priority.getAverageTurnAroundTime(),
-                Priority.getAverageWaitingTime(),
-                Priority.getCPUUtilization());
+        runScheduler(new Priority(true));
     }
 
     private void runRoundRobin() {
@@ -172,52 +199,378 @@ public class CPUSchedulingHandler {
 
             System.out.println(Terminal.CYAN + "\n>> Running Round Robin (Quantum = " + quantum + ")..." + Terminal.RESET);
 
-            ArrayList<Process> processes = new ArrayList<>(processList.getProcesses());
-            RoundRobin.apply(processes, quantum);
-
-            displayResults("Round Robin (Q=" + quantum + ")",
-                    RoundRobin.getProcessesList(),
-                    RoundRobin.getGanttChart(),
-                    RoundRobin.getAverageTurnAroundTime(),
-                    RoundRobin.getAverageWaitingTime(),
-                    RoundRobin.getCPUUtilization());
+            runScheduler(new RoundRobin(quantum));
 
         } catch (NumberFormatException e) {
             System.out.println(Terminal.RED + "Error: Invalid time quantum!" + Terminal.RESET);
         }
     }
 
-    private boolean validatePriorities() {
-        for (Process p : processList.getProcesses()) {
-            if (p.getPriority() == 0) {
-                System.out.println(Terminal.RED + "Error: Please set priorities for all processes first!" + Terminal.RESET);
-                System.out.println(Terminal.YELLOW + "Hint: Use 'setpriority' command or GUI to set priorities" + Terminal.RESET);
-                return false;
+    public void runToFileCommand(String algorithm, String file) {
+        Scheduler scheduler = selectScheduler(algorithm);
+        if (scheduler == null) return;
+
+        System.out.println(Terminal.CYAN + "\n>> Streaming " + scheduler.getName() + " events to " + file + "..." + Terminal.RESET);
+        EventFileSink events;
+        try {
+            events = new EventFileSink(Path.of(file));
+        } catch (IOException e) {
+            System.out.println(Terminal.RED + "Error: Could not write " + file + ": " + e.getMessage() + Terminal.RESET);
+            return;
+        }
+        streamTo(scheduler, events, file);
+    }
+
+    public void exportTraceCommand(String algorithm, String file, boolean cpuTrack) {
+        Scheduler scheduler = selectScheduler(algorithm);
+        if (scheduler == null) return;
+
+        System.out.println(Terminal.CYAN + "\n>> Exporting " + scheduler.getName() + " as a Chrome trace to " + file + "..." + Terminal.RESET);
+        ChromeTraceSink trace;
+        try {
+            trace = new ChromeTraceSink(Path.of(file), cpuTrack);
+        } catch (IOException e) {
+            System.out.println(Terminal.RED + "Error: Could not write " + file + ": " + e.getMessage() + Terminal.RESET);
+            return;
+        }
+        if (streamTo(scheduler, trace, file)) {
+            System.out.println(Terminal.YELLOW + "Open it at https://ui.perfetto.dev or chrome://tracing" + Terminal.RESET);
+        }
+    }
+
+    private Scheduler selectScheduler(String algorithm) {
+        if (processList.isEmpty()) {
+            System.out.println(Terminal.RED + "Error: No processes available." + Terminal.RESET);
+            return null;
+        }
+
+        Scheduler scheduler = schedulerFor(algorithm);
+        if (scheduler instanceof Priority && !validatePriorities()) return null;
+        return scheduler;
+    }
+
+    private Scheduler schedulerFor(String algorithm) {
+        switch (algorithm.toLowerCase()) {
+            case "sjf":
+                return new SJF();
+            case "prioritynp":
+                return new Priority(false);
+            case "priorityp":
+                return new Priority(true);
+            case "rr":
+                return new RoundRobin(timeQuantum);
+            default:
+                System.out.println(Terminal.RED + "Error: Unknown algorithm '" + algorithm + "' (sjf, prioritynp, priorityp, rr)" + Terminal.RESET);
+                return null;
+        }
+    }
+
+    /** Runs {@code scheduler} into {@code writer}, closes it and reports the outcome. */
+    private <T extends ScheduleSink & Closeable> boolean streamTo(Scheduler scheduler, T writer, String file) {
+        RecentGanttSink recent = new RecentGanttSink(10);
+        ScheduleMetrics metrics;
+        try (T output = writer) {
+            ScheduleSink sink = ScheduleSink.of(output, recent);
+            metrics = processList.isInHeap()
+                    ? scheduler.stream(snapshotWorkload(), sink)
+                    : scheduler.stream(processList.getStore(), sink);
+        } catch (IOException | UncheckedIOException e) {
+            System.out.println(Terminal.RED + "Error: Could not write " + file + ": " + e.getMessage() + Terminal.RESET);
+            return false;
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            reportScheduleError(e);
+            return false;
+        }
+
+        displayMetrics(scheduler.getName(), metrics);
+        if (recent.getDroppedSegments() > 0) {
+            System.out.println(Terminal.YELLOW + "\nLast segments only (" + recent.getDroppedSegments() + " earlier segments in the file)" + Terminal.RESET);
+        }
+        displayGanttChart(recent.toGanttChart());
+        System.out.println(Terminal.GREEN + "✓ Events written to " + file + Terminal.RESET);
+        return true;
+    }
+
+    /**
+     * Schedules processes as they arrive, from the terminal or from
+     * {@code file}, printing each decision as it is made. Input lines are
+     * {@code <arrival> <burst> [priority]}, {@code time <T>} to state that
+     * nothing else arrives before T, or {@code end}. A file is read to its end
+     * unless {@code follow} is set, in which case it is tailed until an
+     * {@code end} line is appended.
+     */
+    public void onlineCommand(String algorithm, String file, boolean follow, boolean quiet) {
+        Scheduler scheduler = schedulerFor(algorithm);
+        if (scheduler == null) return;
+        boolean needsPriority = scheduler instanceof Priority;
+
+        OnlineScheduler online = new OnlineScheduler(scheduler, quiet ? ScheduleSink.NONE : new ConsoleEventSink());
+        if (file == null) {
+            System.out.println(Terminal.CYAN + "\n>> Running " + online.getName() + " online. Enter '<arrival> <burst>"
+                    + (needsPriority ? " <priority>" : "") + "', 'time <T>' or 'end'." + Terminal.RESET);
+            long lineNumber = 0;
+            while (true) {
+                System.out.print(Terminal.WHITE_BOLD + "online> " + Terminal.RESET);
+                if (!scanner.hasNextLine() || !feedLine(online, scanner.nextLine(), ++lineNumber, needsPriority)) break;
             }
+        } else {
+            System.out.println(Terminal.CYAN + "\n>> Running " + online.getName() + " online from " + file
+                    + (follow ? " (waiting for an 'end' line)" : "") + "..." + Terminal.RESET);
+            try (Reader reader = Files.newBufferedReader(Path.of(file))) {
+                feedFile(online, reader, follow, needsPriority);
+            } catch (NoSuchFileException e) {
+                System.out.println(Terminal.RED + "Error: File not found: " + file + Terminal.RESET);
+                return;
+            } catch (IOException e) {
+                System.out.println(Terminal.RED + "Error: Could not read " + file + ": " + e.getMessage() + Terminal.RESET);
+                return;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        ScheduleMetrics metrics = online.finish();
+        if (online.getSubmittedCount() == 0) {
+            System.out.println(Terminal.YELLOW + "No processes were submitted." + Terminal.RESET);
+            return;
+        }
+        displayMetrics(online.getName(), metrics);
+    }
+
+    /** Feeds complete lines to {@code online}; at the end of the file either stops or, when following, waits for more. */
+    private void feedFile(OnlineScheduler online, Reader reader, boolean follow, boolean needsPriority)
+            throws IOException, InterruptedException {
+        StringBuilder line = new StringBuilder();
+        long lineNumber = 0;
+        while (true) {
+            int c = reader.read();
+            if (c == -1) {
+                if (!follow) break;
+                Thread.sleep(FOLLOW_POLL_MILLIS);
+                continue;
+            }
+            if (c != '\n') {
+                line.append((char) c);
+                continue;
+            }
+            if (!feedLine(online, line.toString(), ++lineNumber, needsPriority)) return;
+            line.setLength(0);
+        }
+        if (line.length() > 0) feedLine(online, line.toString(), ++lineNumber, needsPriority);
+    }
+
+    /** @return false once the input is over */
+    private boolean feedLine(OnlineScheduler online, String line, long lineNumber, boolean needsPriority) {
+        String[] fields = line.trim().split("[\\s,;]+");
+        if (fields[0].isEmpty() || fields[0].startsWith("#")) return true;
+        if (fields[0].equalsIgnoreCase("end") || fields[0].equalsIgnoreCase("done")) return false;
+
+        try {
+            if (fields[0].equalsIgnoreCase("time")) {
+                if (fields.length != 2) throw new IllegalArgumentException("expected 'time <T>'");
+                online.advanceTo(Integer.parseInt(fields[1]));
+                return true;
+            }
+            if (fields.length < 2 || fields.length > 3) {
+                throw new IllegalArgumentException("expected <arrival> <burst>" + (needsPriority ? " <priority>" : " [priority]"));
+            }
+            int priority = fields.length == 3 ? Integer.parseInt(fields[2]) : 0;
+            if (needsPriority && priority <= 0) throw new IllegalArgumentException("a positive priority is required");
+            online.submit(Integer.parseInt(fields[0]), Integer.parseInt(fields[1]), priority);
+        } catch (NumberFormatException e) {
+            System.out.println(Terminal.RED + "Line " + lineNumber + ": integers expected, skipped" + Terminal.RESET);
+        } catch (IllegalArgumentException e) {
+            System.out.println(Terminal.RED + "Line " + lineNumber + ": " + e.getMessage() + ", skipped" + Terminal.RESET);
         }
         return true;
     }
 
-    private void displayResults(String algorithmName, ArrayList<Process> processes,
-                                ArrayList<?> ganttChart, double avgTAT, double avgWT, double cpuUtil) {
+    /** Prints dispatches and completions as the online run makes them. */
+    private static final class ConsoleEventSink implements ScheduleSink {
+        @Override
+        public void onDispatch(int pid, int time) {
+            System.out.printf(Terminal.WHITE_BOLD + "  t=%-8d" + Terminal.RESET + "dispatch P%d\n", time, pid);
+        }
+
+        @Override
+        public void onCompletion(long index, int pid, int arrivalTime, int burstTime, int completionTime) {
+            int turnAroundTime = completionTime - arrivalTime;
+            System.out.printf(Terminal.WHITE_BOLD + "  t=%-8d" + Terminal.RESET + Terminal.GREEN + "P%d done" + Terminal.RESET
+                            + " (turnaround %d, waiting %d)\n",
+                    completionTime, pid, turnAroundTime, turnAroundTime - burstTime);
+        }
+    }
+
+    public void sweepRRCommand(int fromQuantum, int toQuantum) {
+        if (processList.isEmpty()) {
+            System.out.println(Terminal.RED + "Error: No processes available." + Terminal.RESET);
+            return;
+        }
+        if (fromQuantum <= 0 || toQuantum < fromQuantum) {
+            System.out.println(Terminal.RED + "Error: Quantum range must be positive and ascending!" + Terminal.RESET);
+            return;
+        }
+        if ((long) toQuantum - fromQuantum >= QuantumSweep.MAX_QUANTA) {
+            System.out.println(Terminal.RED + "Error: At most " + QuantumSweep.MAX_QUANTA + " quanta can be swept at once!" + Terminal.RESET);
+            return;
+        }
+
+        System.out.println(Terminal.CYAN + "\n>> Sweeping Round Robin quantum " + fromQuantum + ".." + toQuantum + "..." + Terminal.RESET);
+        QuantumSweep sweep;
+        try {
+            sweep = processList.isInHeap()
+                    ? QuantumSweep.run(snapshotWorkload(), fromQuantum, toQuantum)
+                    : QuantumSweep.run(processList.getStore(), fromQuantum, toQuantum);
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            reportScheduleError(e);
+            return;
+        }
+        displaySweep(sweep);
+    }
+
+    private boolean validatePriorities() {
+        if (!hasAllPriorities()) {
+            System.out.println(Terminal.RED + "Error: Please set priorities for all processes first!" + Terminal.RESET);
+            System.out.println(Terminal.YELLOW + "Hint: Use 'setpriority' command or GUI to set priorities" + Terminal.RESET);
+            return false;
+        }
+        return true;
+    }
+
+    private boolean hasAllPriorities() {
+        ProcessStore store = processList.getStore();
+        for (long i = 0; i < store.size(); i++) {
+            if (store.getPriority(i) == 0) return false;
+        }
+        return true;
+    }
+
+    private Workload snapshotWorkload() {
+        return Workload.of(processList);
+    }
+
+    private void runScheduler(Scheduler scheduler) {
+        if (processList.isInHeap()) {
+            ScheduleResult result = ScheduleCache.getInstance().schedule(scheduler, processList);
+            if (displayEnabled) displayResults(result);
+            return;
+        }
+
+        // Streamed without sorting, so an unsorted mapped store is reported here.
+        try {
+            ScheduleMetrics metrics = ScheduleCache.getInstance().summarize(scheduler, processList);
+            if (displayEnabled) displayMetrics(scheduler.getName(), metrics);
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            reportScheduleError(e);
+        }
+    }
+
+    /**
+     * Reports a schedule that could not run: invalid input, records out of
+     * arrival order, or a store that could not be read or grown.
+     */
+    private static void reportScheduleError(RuntimeException e) {
+        System.out.println(Terminal.RED + "Error: " + e.getMessage() + "." + Terminal.RESET);
+    }
+
+    private void displayResults(ScheduleResult result) {
         System.out.println(Terminal.GREEN + "\n========================================" + Terminal.RESET);
-        System.out.println(Terminal.WHITE_BOLD + "      " + algorithmName + Terminal.RESET);
+        System.out.println(Terminal.WHITE_BOLD + "      " + result.getAlgorithmName() + Terminal.RESET);
         System.out.println(Terminal.GREEN + "========================================" + Terminal.RESET);
 
-        displayGanttChart(ganttChart);
+        displayGanttChart(result.getGanttChart());
 
-        displayProcessTable(processes);
+        displayProcessTable(result);
 
+        displayPerformance(result.getMetrics());
+    }
+
+    private void displayMetrics(String algorithmName, ScheduleMetrics metrics) {
+        System.out.println(Terminal.GREEN + "\n========================================" + Terminal.RESET);
+        System.out.println(Terminal.WHITE_BOLD + "      " + algorithmName + Terminal.RESET);
+        System.out.println(Terminal.GREEN + "========================================" + Terminal.RESET);
+
+        displayPerformance(metrics);
+    }
+
+    private void displayPerformance(ScheduleMetrics metrics) {
         System.out.println(Terminal.CYAN + "\n┌─────────────────────────────────────┐" + Terminal.RESET);
         System.out.println(Terminal.CYAN + "│         PERFORMANCE METRICS         │" + Terminal.RESET);
         System.out.println(Terminal.CYAN + "├─────────────────────────────────────┤" + Terminal.RESET);
-        System.out.printf(Terminal.WHITE_BOLD + "│ " + Terminal.RESET + "Average Turnaround Time: " + Terminal.GREEN + "%-9.2f" + Terminal.RESET + "  │\n", avgTAT);
-        System.out.printf(Terminal.WHITE_BOLD + "│ " + Terminal.RESET + "Average Waiting Time:    " + Terminal.GREEN + "%-9.2f" + Terminal.RESET + "  │\n", avgWT);
-        System.out.printf(Terminal.WHITE_BOLD + "│ " + Terminal.RESET + "CPU Utilization:         " + Terminal.GREEN + "%-5.2f%%" + Terminal.RESET + "    │\n", cpuUtil);
+        System.out.printf(Terminal.WHITE_BOLD + "│ " + Terminal.RESET + "Processes:               " + Terminal.GREEN + "%-9d" + Terminal.RESET + "  │\n", metrics.getProcessCount());
+        System.out.printf(Terminal.WHITE_BOLD + "│ " + Terminal.RESET + "Average Turnaround Time: " + Terminal.GREEN + "%-9.2f" + Terminal.RESET + "  │\n", metrics.getAverageTurnAroundTime());
+        System.out.printf(Terminal.WHITE_BOLD + "│ " + Terminal.RESET + "Average Waiting Time:    " + Terminal.GREEN + "%-9.2f" + Terminal.RESET + "  │\n", metrics.getAverageWaitingTime());
+        System.out.printf(Terminal.WHITE_BOLD + "│ " + Terminal.RESET + "CPU Utilization:         " + Terminal.GREEN + "%-5.2f%%" + Terminal.RESET + "    │\n", metrics.getCPUUtilization());
+        System.out.printf(Terminal.WHITE_BOLD + "│ " + Terminal.RESET + "Throughput (per unit):   " + Terminal.GREEN + "%-9.4f" + Terminal.RESET + "  │\n", metrics.getThroughput());
+        System.out.printf(Terminal.WHITE_BOLD + "│ " + Terminal.RESET + "Context Switches:        " + Terminal.GREEN + "%-9d" + Terminal.RESET + "  │\n", metrics.getContextSwitches());
         System.out.println(Terminal.CYAN + "└─────────────────────────────────────┘" + Terminal.RESET);
+
+        System.out.println(Terminal.CYAN + "┌──────────┬─────────┬─────────┬─────────┬─────────┬─────────┬─────────┐" + Terminal.RESET);
+        System.out.println(Terminal.CYAN + "│ Latency  │  Mean   │   p50   │   p95   │   p99   │   Max   │ Std Dev │" + Terminal.RESET);
+        System.out.println(Terminal.CYAN + "├──────────┼─────────┼─────────┼─────────┼─────────┼─────────┼─────────┤" + Terminal.RESET);
+        displayLatencyRow("Waiting", metrics.getWaitingTimes());
+        displayLatencyRow("Response", metrics.getResponseTimes());
+        System.out.println(Terminal.CYAN + "└──────────┴─────────┴─────────┴─────────┴─────────┴─────────┴─────────┘" + Terminal.RESET);
+    }
+
+    private void displayLatencyRow(String label, LatencyHistogram histogram) {
+        System.out.printf(Terminal.WHITE_BOLD + "│ %-8s │ %7.2f │ %7d │ %7d │ %7d │ %7d │ %7.2f │\n" + Terminal.RESET,
+                label,
+                histogram.getMean(),
+                histogram.getValueAtPercentile(50),
+                histogram.getValueAtPercentile(95),
+                histogram.getValueAtPercentile(99),
+                histogram.getMax(),
+                histogram.getStdDeviation());
+    }
+
+    private void displayComparison(List<Scheduler> schedulers, List<ScheduleMetrics> metrics) {
+        System.out.println(Terminal.CYAN + "\n┌──────────────────────────────┬──────────┬──────────┬──────────┐" + Terminal.RESET);
+        System.out.println(Terminal.CYAN + "│ Algorithm                    │ Avg TAT  │ Avg WT   │ CPU Util │" + Terminal.RESET);
+        System.out.println(Terminal.CYAN + "├──────────────────────────────┼──────────┼──────────┼──────────┤" + Terminal.RESET);
+
+        for (int i = 0; i < schedulers.size(); i++) {
+            System.out.printf(Terminal.WHITE_BOLD + "│ %-28s │ %8.2f │ %8.2f │ %7.2f%% │\n" + Terminal.RESET,
+                    schedulers.get(i).getName(),
+                    metrics.get(i).getAverageTurnAroundTime(),
+                    metrics.get(i).getAverageWaitingTime(),
+                    metrics.get(i).getCPUUtilization());
+        }
+
+        System.out.println(Terminal.CYAN + "└──────────────────────────────┴──────────┴──────────┴──────────┘" + Terminal.RESET);
     }
 
-    private void displayGanttChart(ArrayList<?> ganttChart) {
+    private void displaySweep(QuantumSweep sweep) {
+        double maxWaiting = 0;
+        for (QuantumSweep.Point p : sweep.getPoints()) {
+            maxWaiting = Math.max(maxWaiting, p.getAverageWaitingTime());
+        }
+
+        System.out.println(Terminal.CYAN + "\n┌────────┬──────────┬──────────┬──────────┬──────────────────────┐" + Terminal.RESET);
+        System.out.println(Terminal.CYAN + "│   Q    │  Avg WT  │ Avg TAT  │ Switches │ Waiting Time         │" + Terminal.RESET);
+        System.out.println(Terminal.CYAN + "├────────┼──────────┼──────────┼──────────┼──────────────────────┤" + Terminal.RESET);
+
+        for (QuantumSweep.Point p : sweep.getPoints()) {
+            int barLength = maxWaiting == 0 ? 0 : (int) Math.round(p.getAverageWaitingTime() / maxWaiting * 20);
+            String color = p == sweep.getBest() ? Terminal.GREEN : Terminal.WHITE_BOLD;
+            System.out.printf(color + "│ %-6d │ %8.2f │ %8.2f │ %8d │ %-20s │\n" + Terminal.RESET,
+                    p.getQuantum(),
+                    p.getAverageWaitingTime(),
+                    p.getAverageTurnAroundTime(),
+                    p.getContextSwitches(),
+                    "█".repeat(barLength));
+        }
+
+        System.out.println(Terminal.CYAN + "└────────┴──────────┴──────────┴──────────┴──────────────────────┘" + Terminal.RESET);
+
+        QuantumSweep.Point best = sweep.getBest();
+        System.out.println(Terminal.GREEN + "✓ Best quantum: " + best.getQuantum()
+                + String.format(" (Avg WT: %.2f, Avg TAT: %.2f, Switches: %d)",
+                best.getAverageWaitingTime(), best.getAverageTurnAroundTime(), best.getContextSwitches())
+                + Terminal.RESET);
+    }
+
+    private void displayGanttChart(GanttChart ganttChart) {
         System.out.println(Terminal.YELLOW + "\n╔════════════════════════════════════════╗" + Terminal.RESET);
         System.out.println(Terminal.YELLOW + "║            GANTT CHART                 ║" + Terminal.RESET);
         System.out.println(Terminal.YELLOW + "╚════════════════════════════════════════╝" + Terminal.RESET);
@@ -228,76 +581,51 @@ public class CPUSchedulingHandler {
         }
 
         System.out.print("  ");
-        for (Object obj : ganttChart) {
+        for (int i = 0; i < ganttChart.size(); i++) {
             System.out.print("┌────");
         }
         System.out.println("┐");
 
         System.out.print("  ");
-        for (Object obj : ganttChart) {
-            int pid = extractPid(obj);
-            System.out.printf("│ P%-2d", pid);
+        for (int i = 0; i < ganttChart.size(); i++) {
+            System.out.printf("│ P%-2d", ganttChart.getPid(i));
         }
         System.out.println("│");
 
         System.out.print("  ");
-        for (Object obj : ganttChart) {
+        for (int i = 0; i < ganttChart.size(); i++) {
             System.out.print("└────");
         }
         System.out.println("┘");
 
         System.out.print("  ");
-        for (Object obj : ganttChart) {
-            int start = extractStartTime(obj);
-            System.out.printf("%-5d", start);
+        for (int i = 0; i < ganttChart.size(); i++) {
+            System.out.printf("%-5d", ganttChart.getStartTime(i));
         }
-
-        Object lastSegment = ganttChart.get(ganttChart.size() - 1);
-        int endTime = extractEndTime(lastSegment);
-        System.out.println(endTime);
+        System.out.println(ganttChart.getEndTime());
     }
 
-    private void displayProcessTable(ArrayList<Process> processes) {
+    private void displayProcessTable(ScheduleResult result) {
         System.out.println(Terminal.CYAN + "\n┌─────┬───────────┬────────────┬─────────────┬──────────────┬──────────────┐" + Terminal.RESET);
         System.out.println(Terminal.CYAN + "│ PID │  Arrival  │ Burst Time │ Completion  │  Turnaround  │ Waiting Time │" + Terminal.RESET);
         System.out.println(Terminal.CYAN + "├─────┼───────────┼────────────┼─────────────┼──────────────┼──────────────┤" + Terminal.RESET);
 
-        for (Process p : processes) {
+        Workload workload = result.getWorkload();
+        for (int i = 0; i < result.size(); i++) {
             System.out.printf(Terminal.WHITE_BOLD + "│ %-3d │    %-6d │     %-6d │     %-7d │      %-7d │      %-7d │\n" + Terminal.RESET,
-                    p.getPid(),
-                    p.getArrivalTime(),
-                    p.getBurstTime(),
-                    p.getCompletionTime(),
-                    p.getTurnAroundTime(),
-                    p.getWaitingTime());
+                    workload.getPid(i),
+                    workload.getArrivalTime(i),
+                    workload.getBurstTime(i),
+                    result.getCompletionTime(i),
+                    result.getTurnAroundTime(i),
+                    result.getWaitingTime(i));
         }
 
         System.out.println(Terminal.CYAN + "└─────┴───────────┴────────────┴─────────────┴──────────────┴──────────────┘" + Terminal.RESET);
     }
 
-    private int extractPid(Object obj) {
-        if (obj instanceof SJF.GanttSegment) return ((SJF.GanttSegment) obj).pid;
-        if (obj instanceof Priority.GanttSegment) return ((Priority.GanttSegment) obj).pid;
-        if (obj instanceof RoundRobin.GanttSegment) return ((RoundRobin.GanttSegment) obj).pid;
-        return -1;
-    }
-
-    private int extractStartTime(Object obj) {
-        if (obj instanceof SJF.GanttSegment) return ((SJF.GanttSegment) obj).startTime;
-        if (obj instanceof Priority.GanttSegment) return ((Priority.GanttSegment) obj).startTime;
-        if (obj instanceof RoundRobin.GanttSegment) return ((RoundRobin.GanttSegment) obj).startTime;
-        return -1;
-    }
-
-    private int extractEndTime(Object obj) {
-        if (obj instanceof SJF.GanttSegment) return ((SJF.GanttSegment) obj).endTime;
-        if (obj instanceof Priority.GanttSegment) return ((Priority.GanttSegment) obj).endTime;
-        if (obj instanceof RoundRobin.GanttSegment) return ((RoundRobin.GanttSegment) obj).endTime;
-        return -1;
-    }
-
     public void setPrioritiesInteractive() {
-        if (processList.getSize() == 0) {
+        if (processList.isEmpty()) {
             System.out.println(Terminal.RED + "Error: No processes available." + Terminal.RESET);
             return;
         }
@@ -1,10 +1,22 @@
 package Controller;
 
+import MemoryManagement.AddressTraceReader;
+import MemoryManagement.AddressTranslator;
 import MemoryManagement.Paging;
+import MemoryManagement.RadixPageTable;
 import MemoryManagement.Segmentation;
+import MemoryManagement.Tlb;
 import Model.Process;
 import Model.ProcessList;
 import UI.Terminal;
+import java.io.IOException;
+import java.nio.LongBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Scanner;
 
 public class MemoryManagementHandler {
@@ -13,6 +25,17 @@ public class MemoryManagementHandler {
     private final ProcessList processList;
     private Paging pagingSystem;
     private Segmentation segmentationSystem;
+    private boolean displayEnabled = true;
+
+    private static final double DEFAULT_TLB_NANOS = 20;
+    private static final double DEFAULT_MEMORY_NANOS = 100;
+    private static final int TRANSLATE_BATCH = 1 << 16;
+    private static final long MAP_WINDOW_BYTES = 1L << 27;
+    // TLB put in front of every new paging system; 0 entries means none.
+    private int tlbEntries;
+    private int tlbAssociativity;
+    private Tlb.Replacement tlbReplacement;
+    private boolean tlbFlushOnSwitch;
 
     public MemoryManagementHandler(Scanner scanner) {
         this.scanner = scanner;
@@ -71,7 +94,8 @@ public class MemoryManagementHandler {
                 return;
             }
 
-            pagingSystem = new Paging(totalMemory, frameSize);
+            System.out.print(Terminal.WHITE_BOLD + "Page table levels as bits per level, e.g. 10,10 (Enter for a flat table): " + Terminal.RESET);
+            int[] levelBits = parseLevelBits(scanner.nextLine());
 
             System.out.print(Terminal.WHITE_BOLD + "Set memory sizes for processes? (y/n): " + Terminal.RESET);
             boolean setMemorySizes = scanner.nextLine().trim().equalsIgnoreCase("y");
@@ -94,18 +118,7 @@ public class MemoryManagementHandler {
                 }
             }
 
-            System.out.println(Terminal.CYAN + "\n>> Allocating memory for processes..." + Terminal.RESET);
-            for (Process p : processList.getProcesses()) {
-                Paging.ProcessInfo processInfo = new Paging.ProcessInfo(p.getPid(), p.getMemorySize(), frameSize);
-
-                if (!pagingSystem.allocateProcess(processInfo)) {
-                    System.out.println(Terminal.RED + "X Process " + p.getPid() + " - Not enough memory" + Terminal.RESET);
-                } else {
-                    System.out.println(Terminal.GREEN + "> Process " + p.getPid() + " allocated successfully (Size: " + p.getMemorySize() + ")" + Terminal.RESET);
-                }
-            }
-
-            displayPagingResults(pagingSystem);
+            runPaging(totalMemory, frameSize, levelBits);
 
             System.out.print(Terminal.WHITE_BOLD + "\nTranslate address? (y/n): " + Terminal.RESET);
             if (scanner.nextLine().trim().equalsIgnoreCase("y")) {
@@ -114,9 +127,29 @@ public class MemoryManagementHandler {
 
         } catch (NumberFormatException e) {
             System.out.println(Terminal.RED + "Error: Invalid input!" + Terminal.RESET);
+        } catch (IllegalArgumentException e) {
+            System.out.println(Terminal.RED + "Error: " + e.getMessage() + Terminal.RESET);
         }
     }
 
+    /**
+     * Parses comma-separated bits per page table level; null for a blank line.
+     *
+     * @throws IllegalArgumentException if the levels are malformed or invalid
+     */
+    public static int[] parseLevelBits(String text) {
+        text = text.trim();
+        if (text.isEmpty()) return null;
+
+        String[] parts = text.split(",");
+        int[] levelBits = new int[parts.length];
+        for (int i = 0; i < parts.length; i++) {
+            levelBits[i] = Integer.parseInt(parts[i].trim());
+        }
+        RadixPageTable.validate(levelBits);
+        return levelBits;
+    }
+
     private void handleSegmentation() {
         if (processList.getSize() == 0) {
             System.out.println(Terminal.RED + "Error: No processes available. Please add processes first." + Terminal.RESET);
@@ -134,8 +167,7 @@ public class MemoryManagementHandler {
                 return;
             }
 
-            segmentationSystem = new Segmentation(totalMemory);
-
+            List<Segmentation.ProcessInfo> processes = new ArrayList<>();
             System.out.println(Terminal.CYAN + "\n>> Define segments for each process:" + Terminal.RESET);
 
             for (Process p : processList.getProcesses()) {
@@ -166,14 +198,10 @@ public class MemoryManagementHandler {
                     processInfo.addSegment(name, size);
                 }
 
-                if (!segmentationSystem.allocateProcess(processInfo)) {
-                    System.out.println(Terminal.RED + "X Process " + p.getPid() + " - Not enough memory" + Terminal.RESET);
-                } else {
-                    System.out.println(Terminal.GREEN + "> Process " + p.getPid() + " allocated successfully" + Terminal.RESET);
-                }
+                processes.add(processInfo);
             }
 
-            displaySegmentationResults(segmentationSystem);
+            runSegmentation(totalMemory, processes);
 
             System.out.print(Terminal.WHITE_BOLD + "\nTranslate address? (y/n): " + Terminal.RESET);
             if (scanner.nextLine().trim().equalsIgnoreCase("y")) {
@@ -185,6 +213,75 @@ public class MemoryManagementHandler {
         }
     }
 
+    public void setDisplayEnabled(boolean displayEnabled) {
+        this.displayEnabled = displayEnabled;
+    }
+
+    /** The paging system of the last paging run, with its TLB; null before the first. */
+    public Paging getPagingSystem() {
+        return pagingSystem;
+    }
+
+    /** Makes {@code pagingSystem} the one later translations and 'tlb stats' use. */
+    public void setPagingSystem(Paging pagingSystem) {
+        this.pagingSystem = pagingSystem;
+    }
+
+    public Segmentation getSegmentationSystem() {
+        return segmentationSystem;
+    }
+
+    public void setSegmentationSystem(Segmentation segmentationSystem) {
+        this.segmentationSystem = segmentationSystem;
+    }
+
+    /** Pages every process into a new memory, using the memory sizes already set. */
+    public void runPaging(int totalMemory, int frameSize) {
+        runPaging(totalMemory, frameSize, null);
+    }
+
+    /** As {@link #runPaging(int, int)}, with radix page tables of {@code levelBits} unless null. */
+    public void runPaging(int totalMemory, int frameSize, int[] levelBits) {
+        pagingSystem = new Paging(totalMemory, frameSize, levelBits);
+        if (tlbEntries > 0) {
+            pagingSystem.setTlb(new Tlb(tlbEntries, tlbAssociativity, tlbReplacement, tlbFlushOnSwitch));
+        }
+
+        if (displayEnabled) {
+            System.out.println(Terminal.CYAN + "\n>> Allocating memory for processes..." + Terminal.RESET);
+        }
+        for (Process p : processList.getProcesses()) {
+            Paging.ProcessInfo processInfo = new Paging.ProcessInfo(p.getPid(), p.getMemorySize(), frameSize);
+
+            boolean allocated = pagingSystem.allocateProcess(processInfo);
+            if (!displayEnabled) continue;
+            if (!allocated) {
+                System.out.println(Terminal.RED + "X Process " + p.getPid() + " - Not enough memory" + Terminal.RESET);
+            } else {
+                System.out.println(Terminal.GREEN + "> Process " + p.getPid() + " allocated successfully (Size: " + p.getMemorySize() + ")" + Terminal.RESET);
+            }
+        }
+
+        if (displayEnabled) displayPagingResults(pagingSystem);
+    }
+
+    /** Places {@code processes} one after another into a new segmented memory. */
+    public void runSegmentation(int totalMemory, List<Segmentation.ProcessInfo> processes) {
+        segmentationSystem = new Segmentation(totalMemory);
+
+        for (Segmentation.ProcessInfo processInfo : processes) {
+            boolean allocated = segmentationSystem.allocateProcess(processInfo);
+            if (!displayEnabled) continue;
+            if (!allocated) {
+                System.out.println(Terminal.RED + "X Process " + processInfo.processId + " - Not enough memory" + Terminal.RESET);
+            } else {
+                System.out.println(Terminal.GREEN + "> Process " + processInfo.processId + " allocated successfully" + Terminal.RESET);
+            }
+        }
+
+        if (displayEnabled) displaySegmentationResults(segmentationSystem);
+    }
+
     private void displayPagingResults(Paging paging) {
         System.out.println(Terminal.GREEN + "\n========================================" + Terminal.RESET);
         System.out.println(Terminal.WHITE_BOLD + "      PAGING - MEMORY LAYOUT" + Terminal.RESET);
@@ -197,12 +294,11 @@ public class MemoryManagementHandler {
         System.out.println(Terminal.CYAN + "+----------+--------------------------+" + Terminal.RESET);
 
         for (int i = 0; i < paging.getTotalFrames(); i++) {
-            Paging.FrameInfo frame = paging.getFrameTable().get(i);
             String status;
-            if (frame.isFree) {
+            if (paging.isFrameFree(i)) {
                 status = "Free";
             } else {
-                status = "P" + frame.processId + " Page " + frame.pageNumber;
+                status = "P" + paging.getFrameOwner(i) + " Page " + paging.getFramePage(i);
             }
             System.out.printf(Terminal.WHITE_BOLD + "|   %-5d  |  %-23s |\n" + Terminal.RESET, i, status);
         }
@@ -218,12 +314,13 @@ public class MemoryManagementHandler {
             System.out.println(Terminal.CYAN + "|   Page    |   Frame   |" + Terminal.RESET);
             System.out.println(Terminal.CYAN + "+-----------+-----------+" + Terminal.RESET);
 
-            for (int page : pageTable.pageToFrame.keySet()) {
-                int frame = pageTable.pageToFrame.get(page);
+            for (int page = 0; page < pageTable.getMappedPages(); page++) {
+                int frame = pageTable.lookup(page);
                 System.out.printf(Terminal.WHITE_BOLD + "|    %-5d  |    %-5d  |\n" + Terminal.RESET, page, frame);
             }
 
             System.out.println(Terminal.CYAN + "+-----------+-----------+" + Terminal.RESET);
+            System.out.println(Terminal.WHITE_BOLD + "Page table overhead: " + Terminal.GREEN + pageTable.getOverheadBytes() + " bytes" + Terminal.RESET);
         }
 
         System.out.println(Terminal.CYAN + "\n+--------------------------------------+" + Terminal.RESET);
@@ -233,7 +330,230 @@ public class MemoryManagementHandler {
         System.out.printf(Terminal.WHITE_BOLD + "| " + Terminal.RESET + "Frame Size:      " + Terminal.GREEN + "%-15d" + Terminal.RESET + "     |\n", paging.getFrameSize());
         System.out.printf(Terminal.WHITE_BOLD + "| " + Terminal.RESET + "Total Frames:    " + Terminal.GREEN + "%-15d" + Terminal.RESET + "     |\n", paging.getTotalFrames());
         System.out.printf(Terminal.WHITE_BOLD + "| " + Terminal.RESET + "Free Frames:     " + Terminal.GREEN + "%-15d" + Terminal.RESET + "     |\n", paging.getFreeFramesCount());
+        System.out.printf(Terminal.WHITE_BOLD + "| " + Terminal.RESET + "Table Levels:    " + Terminal.GREEN + "%-15s" + Terminal.RESET + "     |\n", formatLevelBits(paging.getLevelBits()));
+        System.out.printf(Terminal.WHITE_BOLD + "| " + Terminal.RESET + "Table Bytes:     " + Terminal.GREEN + "%-15d" + Terminal.RESET + "     |\n", paging.getPageTableOverheadBytes());
+        System.out.println(Terminal.CYAN + "+--------------------------------------+" + Terminal.RESET);
+    }
+
+    /**
+     * {@code tlb <ENTRIES> <WAYS> [lru|random] [flush|keep]} puts a new TLB in
+     * front of the current and every later paging system, {@code tlb off}
+     * removes it and {@code tlb stats [tlbns=N] [memns=N]} shows its counters.
+     */
+    public void tlbCommand(String[] args) {
+        if (args.length == 0) {
+            System.out.println(Terminal.RED + "Usage: tlb <ENTRIES> <WAYS> [lru|random] [flush|keep] | tlb stats [tlbns=N] [memns=N] | tlb off" + Terminal.RESET);
+            return;
+        }
+
+        switch (args[0].toLowerCase()) {
+            case "off":
+                tlbEntries = 0;
+                if (pagingSystem != null) pagingSystem.setTlb(null);
+                System.out.println(Terminal.GREEN + "✓ TLB removed" + Terminal.RESET);
+                return;
+            case "stats":
+                displayTlbStats(args);
+                return;
+            default:
+                break;
+        }
+
+        int entries;
+        int associativity;
+        Tlb.Replacement replacement = Tlb.Replacement.LRU;
+        boolean flushOnSwitch = true;
+        try {
+            entries = Integer.parseInt(args[0]);
+            associativity = args.length > 1 ? Integer.parseInt(args[1]) : entries;
+        } catch (NumberFormatException e) {
+            System.out.println(Terminal.RED + "Error: TLB entries and ways must be numbers!" + Terminal.RESET);
+            return;
+        }
+        for (int i = 2; i < args.length; i++) {
+            switch (args[i].toLowerCase()) {
+                case "lru":
+                    replacement = Tlb.Replacement.LRU;
+                    break;
+                case "random":
+                    replacement = Tlb.Replacement.RANDOM;
+                    break;
+                case "flush":
+                    flushOnSwitch = true;
+                    break;
+                case "keep":
+                    flushOnSwitch = false;
+                    break;
+                default:
+                    System.out.println(Terminal.RED + "Error: Unknown option '" + args[i] + "' (lru, random, flush, keep)" + Terminal.RESET);
+                    return;
+            }
+        }
+
+        Tlb tlb;
+        try {
+            tlb = new Tlb(entries, associativity, replacement, flushOnSwitch);
+        } catch (IllegalArgumentException e) {
+            System.out.println(Terminal.RED + "Error: " + e.getMessage() + Terminal.RESET);
+            return;
+        }
+        tlbEntries = entries;
+        tlbAssociativity = associativity;
+        tlbReplacement = replacement;
+        tlbFlushOnSwitch = flushOnSwitch;
+        if (pagingSystem != null) pagingSystem.setTlb(tlb);
+        System.out.println(Terminal.GREEN + "✓ TLB set: " + describeTlb(tlb) + Terminal.RESET);
+    }
+
+    /**
+     * {@code translatefile <TRACE> [paging|segmentation]} translates every
+     * reference of a trace with the last paging (default) or segmentation
+     * system, in batches. A {@code .bin} trace holds packed 64-bit big-endian
+     * references and is memory-mapped; any other file is read as text lines of
+     * pid and logical address. Segmentation addresses are
+     * {@code segment << 24 | offset}.
+     */
+    public void translateFileCommand(String[] args) {
+        if (args.length == 0 || args.length > 2) {
+            System.out.println(Terminal.RED + "Usage: translatefile <TRACE> [paging|segmentation]" + Terminal.RESET);
+            return;
+        }
+        boolean segmentation = args.length == 2 && args[1].equalsIgnoreCase("segmentation");
+        if (args.length == 2 && !segmentation && !args[1].equalsIgnoreCase("paging")) {
+            System.out.println(Terminal.RED + "Error: Unknown scheme '" + args[1] + "' (paging, segmentation)" + Terminal.RESET);
+            return;
+        }
+        AddressTranslator translator = segmentation ? segmentationSystem : pagingSystem;
+        if (translator == null) {
+            System.out.println(Terminal.RED + "Error: Run " + (segmentation ? "segmentation" : "paging") + " from the memory menu first." + Terminal.RESET);
+            return;
+        }
+
+        String file = args[0];
+        int[] physical = new int[TRANSLATE_BATCH];
+        long references = 0;
+        long faults = 0;
+        long start = System.nanoTime();
+        try {
+            if (file.toLowerCase().endsWith(".bin")) {
+                try (FileChannel channel = FileChannel.open(Path.of(file), StandardOpenOption.READ)) {
+                    long size = channel.size();
+                    if (size % Long.BYTES != 0) {
+                        throw new IOException("size is not a multiple of 8 bytes");
+                    }
+                    for (long position = 0; position < size; position += MAP_WINDOW_BYTES) {
+                        LongBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, position,
+                                Math.min(MAP_WINDOW_BYTES, size - position)).asLongBuffer();
+                        while (buffer.hasRemaining()) {
+                            int remaining = buffer.remaining();
+                            faults += translator.translate(buffer, physical);
+                            references += remaining - buffer.remaining();
+                        }
+                    }
+                }
+            } else {
+                long[] batch = new long[TRANSLATE_BATCH];
+                try (AddressTraceReader reader = new AddressTraceReader(Path.of(file))) {
+                    int count;
+                    while ((count = reader.read(batch)) > 0) {
+                        faults += translator.translate(batch, physical, count);
+                        references += count;
+                    }
+                }
+            }
+        } catch (NoSuchFileException e) {
+            System.out.println(Terminal.RED + "Error: File not found: " + file + Terminal.RESET);
+            return;
+        } catch (IOException e) {
+            System.out.println(Terminal.RED + "Error: Could not read " + file + ": " + e.getMessage() + Terminal.RESET);
+            return;
+        }
+        long nanos = System.nanoTime() - start;
+
+        System.out.println(Terminal.CYAN + "\n+--------------------------------------+" + Terminal.RESET);
+        System.out.println(Terminal.CYAN + "|       ADDRESS TRACE STATISTICS       |" + Terminal.RESET);
         System.out.println(Terminal.CYAN + "+--------------------------------------+" + Terminal.RESET);
+        System.out.printf(Terminal.WHITE_BOLD + "| " + Terminal.RESET + "References:      " + Terminal.GREEN + "%-15d" + Terminal.RESET + "     |\n", references);
+        System.out.printf(Terminal.WHITE_BOLD + "| " + Terminal.RESET + "Faults:          " + Terminal.GREEN + "%-15d" + Terminal.RESET + "     |\n", faults);
+        System.out.printf(Terminal.WHITE_BOLD + "| " + Terminal.RESET + "Fault Rate:      " + Terminal.GREEN + "%-15s" + Terminal.RESET + "     |\n",
+                String.format("%.2f%%", references == 0 ? 0 : 100.0 * faults / references));
+        System.out.printf(Terminal.WHITE_BOLD + "| " + Terminal.RESET + "Time (ms):       " + Terminal.GREEN + "%-15.1f" + Terminal.RESET + "     |\n", nanos / 1e6);
+        System.out.printf(Terminal.WHITE_BOLD + "| " + Terminal.RESET + "References/s:    " + Terminal.GREEN + "%-15.0f" + Terminal.RESET + "     |\n",
+                nanos == 0 ? 0 : references * 1e9 / nanos);
+        System.out.println(Terminal.CYAN + "+--------------------------------------+" + Terminal.RESET);
+
+        Tlb tlb = segmentation ? null : pagingSystem.getTlb();
+        if (tlb != null) {
+            System.out.printf(Terminal.WHITE_BOLD + "TLB hit rate so far: " + Terminal.GREEN + "%.2f%%" + Terminal.RESET + " (see 'tlb stats')\n", 100 * tlb.getHitRatio());
+        }
+    }
+
+    private void displayTlbStats(String[] args) {
+        Tlb tlb = pagingSystem == null ? null : pagingSystem.getTlb();
+        if (tlb == null) {
+            System.out.println(Terminal.RED + "Error: No TLB in use. Set one with 'tlb <ENTRIES> <WAYS>' and run paging." + Terminal.RESET);
+            return;
+        }
+
+        double tlbNanos = DEFAULT_TLB_NANOS;
+        double memoryNanos = DEFAULT_MEMORY_NANOS;
+        for (int i = 1; i < args.length; i++) {
+            String[] option = args[i].split("=", 2);
+            try {
+                if (option.length == 2 && option[0].equalsIgnoreCase("tlbns")) {
+                    tlbNanos = Double.parseDouble(option[1]);
+                } else if (option.length == 2 && option[0].equalsIgnoreCase("memns")) {
+                    memoryNanos = Double.parseDouble(option[1]);
+                } else {
+                    System.out.println(Terminal.RED + "Error: Unknown option '" + args[i] + "' (tlbns=N, memns=N)" + Terminal.RESET);
+                    return;
+                }
+            } catch (NumberFormatException e) {
+                System.out.println(Terminal.RED + "Error: Invalid value in '" + args[i] + "'" + Terminal.RESET);
+                return;
+            }
+        }
+
+        System.out.println(Terminal.YELLOW + "\n======= TLB: " + describeTlb(tlb) + " =======" + Terminal.RESET);
+        System.out.println(Terminal.CYAN + "+-----------+--------------+--------------+-----------+" + Terminal.RESET);
+        System.out.println(Terminal.CYAN + "|  Process  |     Hits     |    Misses    | Hit Rate  |" + Terminal.RESET);
+        System.out.println(Terminal.CYAN + "+-----------+--------------+--------------+-----------+" + Terminal.RESET);
+        for (int pid : pagingSystem.getProcessPageTables().keySet()) {
+            Paging.PageTable pageTable = pagingSystem.getProcessPageTables().get(pid);
+            long hits = pageTable.getTlbHits();
+            long misses = pageTable.getTlbMisses();
+            if (hits + misses == 0) continue;
+            System.out.printf(Terminal.WHITE_BOLD + "|   %-6d  |  %-11d |  %-11d |  %6.2f%%  |\n" + Terminal.RESET,
+                    pid, hits, misses, 100.0 * hits / (hits + misses));
+        }
+        System.out.printf(Terminal.GREEN + "|   %-6s  |  %-11d |  %-11d |  %6.2f%%  |\n" + Terminal.RESET,
+                "All", tlb.getHits(), tlb.getMisses(), 100 * tlb.getHitRatio());
+        System.out.println(Terminal.CYAN + "+-----------+--------------+--------------+-----------+" + Terminal.RESET);
+
+        if (tlb.getHits() + tlb.getMisses() == 0) {
+            System.out.println(Terminal.YELLOW + "No addresses translated yet." + Terminal.RESET);
+            return;
+        }
+        System.out.println(Terminal.WHITE_BOLD + "Flushes: " + Terminal.GREEN + tlb.getFlushes() + Terminal.RESET);
+        System.out.printf(Terminal.WHITE_BOLD + "Effective access time: " + Terminal.GREEN + "%.2f ns" + Terminal.RESET
+                        + " (TLB %.1f ns, memory %.1f ns, %d page table read(s) per miss)\n",
+                tlb.getEffectiveAccessTime(tlbNanos, memoryNanos, pagingSystem.getTableAccesses()),
+                tlbNanos, memoryNanos, pagingSystem.getTableAccesses());
+    }
+
+    private static String describeTlb(Tlb tlb) {
+        return tlb.getEntries() + " entries, " + tlb.getAssociativity() + "-way, "
+                + tlb.getReplacement() + ", " + (tlb.isFlushOnSwitch() ? "flush on switch" : "tagged by pid");
+    }
+
+    private static String formatLevelBits(int[] levelBits) {
+        if (levelBits == null) return "flat";
+        StringBuilder text = new StringBuilder();
+        for (int bits : levelBits) {
+            if (text.length() > 0) text.append(",");
+            text.append(bits);
+        }
+        return text.toString();
     }
 
     private void displaySegmentationResults(Segmentation segmentation) {
@@ -1,7 +1,16 @@
 package Controller;
 
+import Model.CsvImporter;
+import Model.MappedProcessStore;
 import Model.ProcessList;
+import Model.ProcessStore;
+import Model.SwfReader;
+import Model.WorkloadGenerator;
 import UI.Terminal;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
 import java.util.Scanner;
 
 public class ProcessInputHandler {
@@ -94,10 +103,149 @@ public class ProcessInputHandler {
     }
 
     public void clearProcesses() {
-        processList.getProcesses().clear();
+        processList.clear();
         System.out.println(Terminal.GREEN + "✓ All processes cleared." + Terminal.RESET);
     }
 
+    public void generateCommand(String[] args) {
+        if (args.length == 0) {
+            System.out.println(Terminal.RED + "Usage: generate <count> [seed=N] [arrivals=poisson|bursty] [bursts=exponential|pareto|bimodal]" + Terminal.RESET);
+            System.out.println(Terminal.RED + "                [burst=MEAN] [load=L] [batch=SIZE] [priorities=MAX] [memory=MIN-MAX]" + Terminal.RESET);
+            return;
+        }
+
+        long count;
+        try {
+            count = Long.parseLong(args[0]);
+        } catch (NumberFormatException e) {
+            count = 0;
+        }
+        if (count <= 0) {
+            System.out.println(Terminal.RED + "Error: Count must be a positive integer" + Terminal.RESET);
+            return;
+        }
+
+        WorkloadGenerator generator = new WorkloadGenerator();
+        for (int i = 1; i < args.length; i++) {
+            String[] option = args[i].split("=", 2);
+            if (option.length != 2) {
+                System.out.println(Terminal.RED + "Error: Expected key=value, got '" + args[i] + "'" + Terminal.RESET);
+                return;
+            }
+            try {
+                switch (option[0].toLowerCase()) {
+                    case "seed":
+                        generator.setSeed(Long.parseLong(option[1]));
+                        break;
+                    case "arrivals":
+                        generator.setArrivalPattern(WorkloadGenerator.ArrivalPattern.valueOf(option[1].toUpperCase()));
+                        break;
+                    case "bursts":
+                        generator.setBurstDistribution(WorkloadGenerator.BurstDistribution.valueOf(option[1].toUpperCase()));
+                        break;
+                    case "burst":
+                        generator.setMeanBurst(Double.parseDouble(option[1]));
+                        break;
+                    case "load":
+                        generator.setLoad(Double.parseDouble(option[1]));
+                        break;
+                    case "batch":
+                        generator.setMeanBatchSize(Double.parseDouble(option[1]));
+                        break;
+                    case "priorities":
+                        generator.setMaxPriority(Integer.parseInt(option[1]));
+                        break;
+                    case "memory":
+                        String[] range = option[1].split("-", 2);
+                        int min = Integer.parseInt(range[0]);
+                        generator.setMemorySizeRange(min, range.length == 2 ? Integer.parseInt(range[1]) : min);
+                        break;
+                    default:
+                        System.out.println(Terminal.RED + "Error: Unknown option '" + option[0] + "'" + Terminal.RESET);
+                        return;
+                }
+            } catch (IllegalArgumentException e) {
+                // Also covers NumberFormatException and unknown enum names.
+                System.out.println(Terminal.RED + "Error: Invalid value in '" + args[i] + "'" + Terminal.RESET);
+                return;
+            }
+        }
+
+        processList.clear();
+        long start = System.nanoTime();
+        try {
+            generator.generate(processList, count);
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            processList.clear();
+            System.out.println(Terminal.RED + "Error: " + e.getMessage() + Terminal.RESET);
+            return;
+        } catch (OutOfMemoryError e) {
+            processList.clear();
+            System.out.println(Terminal.RED + "Error: Not enough heap for " + count + " processes; try 'mapstore <file>' first" + Terminal.RESET);
+            return;
+        }
+        long millis = (System.nanoTime() - start) / 1_000_000;
+        System.out.println(Terminal.GREEN + "✓ Generated " + count + " processes in " + millis + " ms" + Terminal.RESET);
+    }
+
+    public void importCommand(String file) {
+        long start = System.nanoTime();
+        try {
+            long imported = CsvImporter.importFile(Path.of(file), processList);
+            long millis = (System.nanoTime() - start) / 1_000_000;
+            System.out.println(Terminal.GREEN + "✓ Imported " + imported + " processes from " + file + " in " + millis + " ms" + Terminal.RESET);
+        } catch (NoSuchFileException e) {
+            System.out.println(Terminal.RED + "Error: File not found: " + file + Terminal.RESET);
+        } catch (IOException e) {
+            System.out.println(Terminal.RED + "Error: Could not import " + file + ": " + e.getMessage() + Terminal.RESET);
+        } catch (IllegalStateException e) {
+            System.out.println(Terminal.RED + "Error: " + e.getMessage() + Terminal.RESET);
+        } catch (OutOfMemoryError e) {
+            System.out.println(Terminal.RED + "Error: Not enough heap to import " + file + "; try 'mapstore <file>' first" + Terminal.RESET);
+        }
+    }
+
+    public void importSwfCommand(String file) {
+        long start = System.nanoTime();
+        try (SwfReader reader = new SwfReader(Path.of(file))) {
+            long imported = reader.readInto(processList);
+            long millis = (System.nanoTime() - start) / 1_000_000;
+            System.out.println(Terminal.GREEN + "✓ Imported " + imported + " jobs from " + file + " in " + millis + " ms" + Terminal.RESET);
+            if (reader.getSkippedJobs() > 0) {
+                System.out.println(Terminal.YELLOW + "Skipped " + reader.getSkippedJobs() + " jobs with an unknown submit or run time." + Terminal.RESET);
+            }
+        } catch (NoSuchFileException e) {
+            System.out.println(Terminal.RED + "Error: File not found: " + file + Terminal.RESET);
+        } catch (IOException e) {
+            System.out.println(Terminal.RED + "Error: Could not import " + file + ": " + e.getMessage() + Terminal.RESET);
+        } catch (IllegalStateException e) {
+            System.out.println(Terminal.RED + "Error: " + e.getMessage() + Terminal.RESET);
+        } catch (OutOfMemoryError e) {
+            System.out.println(Terminal.RED + "Error: Not enough heap to import " + file + "; try 'mapstore <file>' first" + Terminal.RESET);
+        }
+    }
+
+    public void mapStoreCommand(String target) {
+        ProcessStore previous = processList.getStore();
+        try {
+            if (target.equalsIgnoreCase("off")) {
+                if (processList.isInHeap()) {
+                    System.out.println(Terminal.YELLOW + "Processes are already kept in memory." + Terminal.RESET);
+                    return;
+                }
+                processList.useHeapStore();
+                System.out.println(Terminal.GREEN + "✓ Switched back to in-memory processes." + Terminal.RESET);
+            } else {
+                MappedProcessStore store = MappedProcessStore.open(Path.of(target));
+                processList.setStore(store);
+                System.out.println(Terminal.GREEN + "✓ Mapped " + target + " (" + store.size() + " processes)" + Terminal.RESET);
+            }
+            if (previous instanceof Closeable) ((Closeable) previous).close();
+        } catch (IOException e) {
+            System.out.println(Terminal.RED + "Error: " + e.getMessage() + Terminal.RESET);
+        }
+    }
+
     private void displayProcessTable() {
         System.out.println(Terminal.CYAN + "\n┌─────────┬───────────────┬─────────────┐" + Terminal.RESET);
         System.out.println(Terminal.CYAN + "│   PID   │ Arrival Time  │ Burst Time  │" + Terminal.RESET);
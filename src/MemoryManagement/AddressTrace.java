@@ -0,0 +1,25 @@
+package MemoryManagement;
+
+/**
+ * Packing of memory references for the batch translation APIs of
+ * {@link AddressTranslator}. A reference is a {@code long}
+ * holding the pid in its high 32 bits and the logical address in its low 32
+ * bits. Translated addresses that fault are reported as {@link #FAULT}.
+ */
+public final class AddressTrace {
+    public static final int FAULT = -1;
+
+    private AddressTrace() {}
+
+    public static long reference(int processId, int address) {
+        return ((long) processId << 32) | (address & 0xFFFFFFFFL);
+    }
+
+    public static int processId(long reference) {
+        return (int) (reference >>> 32);
+    }
+
+    public static int address(long reference) {
+        return (int) reference;
+    }
+}
@@ -0,0 +1,138 @@
+package MemoryManagement;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Streaming reader for text address traces: one reference per line as a pid
+ * and a logical address separated by blanks, the address in decimal or in
+ * hex with a {@code 0x} prefix. Blank lines and lines starting with
+ * {@code #} are skipped.
+ *
+ * Numbers are parsed straight from a fixed read buffer into
+ * {@link AddressTrace#reference packed references}, so reading allocates
+ * nothing per line however long the trace.
+ */
+public class AddressTraceReader implements Closeable {
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final InputStream in;
+    private final byte[] buffer = new byte[BUFFER_SIZE];
+    private int position;
+    private int limit;
+    private long lineNumber;
+
+    public AddressTraceReader(Path file) throws IOException {
+        this.in = Files.newInputStream(file);
+    }
+
+    /**
+     * Fills {@code references} with the next references of the trace.
+     *
+     * @return how many were read, 0 at the end of the trace
+     * @throws IOException if the file cannot be read or a line is malformed
+     */
+    public int read(long[] references) throws IOException {
+        int count = 0;
+        while (count < references.length) {
+            int b = peek();
+            if (b < 0) break;
+            lineNumber++;
+            if (b == '#') {
+                skipLine();
+                continue;
+            }
+
+            b = skipBlanks();
+            if (b < 0 || b == '\n') {
+                position += b < 0 ? 0 : 1;
+                continue;
+            }
+            long pid = readNumber();
+            b = skipBlanks();
+            if (b < 0 || b == '\n')
+                throw new IOException("Line " + lineNumber + ": expected a pid and an address");
+            long address = readNumber();
+            b = skipBlanks();
+            if (b >= 0 && b != '\n')
+                throw new IOException("Line " + lineNumber + ": unexpected character '" + (char) b + "'");
+            position += b < 0 ? 0 : 1;
+
+            references[count++] = AddressTrace.reference((int) pid, (int) address);
+        }
+        return count;
+    }
+
+    public long getLineNumber() {
+        return lineNumber;
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+
+    /** Reads a decimal or 0x-prefixed hex number of at most {@link Integer#MAX_VALUE}. */
+    private long readNumber() throws IOException {
+        int radix = 10;
+        int digits = 0;
+        if (peek() == '0') {
+            position++;
+            digits++;
+            if (peek() == 'x' || peek() == 'X') {
+                position++;
+                radix = 16;
+                digits = 0;
+            }
+        }
+
+        long value = 0;
+        int digit;
+        while ((digit = Character.digit(peek(), radix)) >= 0) {
+            position++;
+            digits++;
+            value = value * radix + digit;
+            if (value > Integer.MAX_VALUE)
+                throw new IOException("Line " + lineNumber + ": number out of range");
+        }
+        if (digits == 0)
+            throw new IOException("Line " + lineNumber + ": expected a number");
+        return value;
+    }
+
+    /** Skips blanks and carriage returns and returns the next byte without consuming it. */
+    private int skipBlanks() throws IOException {
+        int b = peek();
+        while (b == ' ' || b == '\t' || b == '\r') {
+            position++;
+            b = peek();
+        }
+        return b;
+    }
+
+    private void skipLine() throws IOException {
+        int b;
+        do b = read(); while (b >= 0 && b != '\n');
+    }
+
+    private int peek() throws IOException {
+        if (position == limit && !fill()) return -1;
+        return buffer[position] & 0xFF;
+    }
+
+    private int read() throws IOException {
+        if (position == limit && !fill()) return -1;
+        return buffer[position++] & 0xFF;
+    }
+
+    private boolean fill() throws IOException {
+        int n = in.read(buffer, 0, BUFFER_SIZE);
+        if (n <= 0) return false;
+        position = 0;
+        limit = n;
+        return true;
+    }
+}
@@ -0,0 +1,58 @@
+package MemoryManagement;
+
+import java.nio.LongBuffer;
+
+/**
+ * A memory manager that maps logical addresses of a process to physical ones.
+ * Implementations only translate a single address; the batch overloads loop
+ * over it and count faults. Faulting addresses become
+ * {@link AddressTrace#FAULT}, and no batch call allocates.
+ */
+public interface AddressTranslator {
+
+    /** The physical address of {@code logical} in {@code processId}, or {@link AddressTrace#FAULT}. */
+    int translate(int processId, int logical);
+
+    /**
+     * Translates the first {@code count} logical addresses of one process into
+     * {@code physical}.
+     *
+     * @return the number of faults
+     */
+    default int translate(int processId, int[] logical, int[] physical, int count) {
+        int faults = 0;
+        for (int i = 0; i < count; i++) {
+            physical[i] = translate(processId, logical[i]);
+            if (physical[i] == AddressTrace.FAULT) faults++;
+        }
+        return faults;
+    }
+
+    /** As {@link #translate(int, int[], int[], int)} for packed {@link AddressTrace} references. */
+    default int translate(long[] references, int[] physical, int count) {
+        int faults = 0;
+        for (int i = 0; i < count; i++) {
+            long reference = references[i];
+            physical[i] = translate(AddressTrace.processId(reference), AddressTrace.address(reference));
+            if (physical[i] == AddressTrace.FAULT) faults++;
+        }
+        return faults;
+    }
+
+    /**
+     * Translates as many of the remaining {@code references} as {@code physical}
+     * holds, advancing the buffer past them.
+     *
+     * @return the number of faults
+     */
+    default int translate(LongBuffer references, int[] physical) {
+        int count = Math.min(references.remaining(), physical.length);
+        int faults = 0;
+        for (int i = 0; i < count; i++) {
+            long reference = references.get();
+            physical[i] = translate(AddressTrace.processId(reference), AddressTrace.address(reference));
+            if (physical[i] == AddressTrace.FAULT) faults++;
+        }
+        return faults;
+    }
+}
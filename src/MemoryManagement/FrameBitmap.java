@@ -0,0 +1,101 @@
+package MemoryManagement;
+
+/**
+ * Set of free physical frames kept as a bitmap: bit {@code f % 64} of word
+ * {@code f / 64} is set while frame {@code f} is free, so the whole set costs
+ * one bit per frame. Frames are handed out lowest first. Scans skip a full
+ * word at a time and use {@link Long#numberOfTrailingZeros} inside a word.
+ */
+final class FrameBitmap {
+    private final long[] words;
+    private int freeCount;
+    /** Every word below this index is fully allocated. */
+    private int firstFreeWord;
+
+    FrameBitmap(int frameCount) {
+        this.words = new long[(frameCount + 63) >>> 6];
+        this.freeCount = frameCount;
+        this.firstFreeWord = 0;
+        for (int w = 0; w < words.length; w++) {
+            words[w] = -1L;
+        }
+        int tail = frameCount & 63;
+        if (tail != 0) words[words.length - 1] = (1L << tail) - 1;
+    }
+
+    int getFreeCount() {
+        return freeCount;
+    }
+
+    boolean isFree(int frame) {
+        return (words[frame >>> 6] & (1L << frame)) != 0;
+    }
+
+    /** Takes the lowest free frame, or returns -1 if none is left. */
+    int allocate() {
+        while (firstFreeWord < words.length && words[firstFreeWord] == 0) {
+            firstFreeWord++;
+        }
+        if (firstFreeWord == words.length) return -1;
+
+        long word = words[firstFreeWord];
+        words[firstFreeWord] = word & (word - 1);
+        freeCount--;
+        return (firstFreeWord << 6) + Long.numberOfTrailingZeros(word);
+    }
+
+    /**
+     * Takes the lowest run of {@code count} consecutive free frames and
+     * returns its first frame, or -1 if no run is long enough.
+     */
+    int allocateRun(int count) {
+        if (count <= 0) return 0;
+        if (count > freeCount) return -1;
+
+        int runStart = 0;
+        long runLength = 0;
+        for (int w = firstFreeWord; w < words.length; w++) {
+            long word = words[w];
+            if (word == -1L) {
+                if (runLength == 0) runStart = w << 6;
+                runLength += 64;
+                if (runLength >= count) return take(runStart, count);
+                continue;
+            }
+
+            int bit = 0;
+            while (bit < 64) {
+                long rest = word >>> bit;
+                if (rest == 0) {
+                    runLength = 0;
+                    break;
+                }
+                int used = Long.numberOfTrailingZeros(rest);
+                if (used > 0) {
+                    runLength = 0;
+                    bit += used;
+                }
+                int free = Long.numberOfTrailingZeros(~(word >>> bit));
+                if (runLength == 0) runStart = (w << 6) + bit;
+                runLength += free;
+                if (runLength >= count) return take(runStart, count);
+                bit += free;
+            }
+        }
+        return -1;
+    }
+
+    /** Marks frames {@code start .. start + count - 1} allocated. */
+    private int take(int start, int count) {
+        int end = start + count;
+        for (int w = start >>> 6; w <= (end - 1) >>> 6; w++) {
+            int base = w << 6;
+            int from = Math.max(start - base, 0);
+            int to = Math.min(end - base, 64);
+            long mask = to == 64 ? -1L << from : ((1L << to) - 1) & (-1L << from);
+            words[w] &= ~mask;
+        }
+        freeCount -= count;
+        return start;
+    }
+}
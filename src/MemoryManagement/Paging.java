@@ -1,16 +1,26 @@
 package MemoryManagement;
 
-import java.util.ArrayList;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
 
-public class Paging {
+public class Paging implements AddressTranslator {
     private int totalMemory;
     private int frameSize;
     private int totalFrames;
-    private Map<Integer, FrameInfo> frameTable;
+    private int[] levelBits;
+    // Inverted frame table: owner pid and page number of every frame, meaningful while the frame is in use.
+    private int[] frameOwners;
+    private int[] framePages;
     private Map<Integer, PageTable> processPageTables;
-    private ArrayList<Integer> freeFrames;
+    private PidIndex<PageTable> pageTablesByPid;
+    private FrameBitmap freeFrames;
+    private Tlb tlb;
 
     public static class FrameInfo {
         public int processId;
@@ -30,13 +40,75 @@ public class Paging {
         }
     }
 
+    /**
+     * Page table of one process: a flat array indexed by page number by default,
+     * or a {@link RadixPageTable} when the paging system was created with levels.
+     */
     public static class PageTable {
         public int processId;
-        public Map<Integer, Integer> pageToFrame;
+        public RadixPageTable radixTable;
+        // Flat table: frame of every page, -1 if unmapped; unused with a radix table.
+        private int[] frames = new int[0];
+        private int mappedPages;
+        // Lookups of this process in the attached TLB, reset when the TLB changes.
+        private long tlbHits;
+        private long tlbMisses;
 
         public PageTable(int processId) {
             this.processId = processId;
-            this.pageToFrame = new HashMap<>();
+        }
+
+        public PageTable(int processId, int[] levelBits) {
+            this.processId = processId;
+            this.radixTable = new RadixPageTable(levelBits);
+        }
+
+        public void map(int page, int frame) {
+            if (radixTable != null) {
+                radixTable.map(page, frame);
+                return;
+            }
+            if (page < 0)
+                throw new IllegalArgumentException("Page " + page + " is negative");
+            if (page >= frames.length) reserve(Math.max(page + 1, frames.length * 2));
+            if (frames[page] == -1) mappedPages++;
+            frames[page] = frame;
+        }
+
+        /** The frame holding {@code page}, or -1 if it is not mapped. */
+        public int lookup(int page) {
+            if (radixTable != null) {
+                return radixTable.lookup(page);
+            }
+            return page >= 0 && page < frames.length ? frames[page] : -1;
+        }
+
+        public long getTlbHits() {
+            return tlbHits;
+        }
+
+        public long getTlbMisses() {
+            return tlbMisses;
+        }
+
+        public int getMappedPages() {
+            return radixTable != null ? radixTable.getMappedPages() : mappedPages;
+        }
+
+        /** Estimated heap used by the table itself, excluding this object. */
+        public long getOverheadBytes() {
+            if (radixTable != null) {
+                return radixTable.getOverheadBytes();
+            }
+            return RadixPageTable.arrayBytes(frames.length);
+        }
+
+        /** Grows a flat table to hold pages {@code 0 .. pages - 1} without copying again. */
+        void reserve(int pages) {
+            if (radixTable != null || pages <= frames.length) return;
+            int oldLength = frames.length;
+            frames = Arrays.copyOf(frames, pages);
+            Arrays.fill(frames, oldLength, pages, -1);
         }
     }
 
@@ -53,48 +125,129 @@ public class Paging {
     }
 
     public Paging(int totalMemory, int frameSize) {
+        this(totalMemory, frameSize, null);
+    }
+
+    /**
+     * @param levelBits index bits per level of every process's radix page table,
+     *                  root first, or null for flat page tables
+     * @throws IllegalArgumentException if the levels are not valid for a {@link RadixPageTable}
+     */
+    public Paging(int totalMemory, int frameSize, int[] levelBits) {
+        if (levelBits != null) RadixPageTable.validate(levelBits);
+        this.levelBits = levelBits == null ? null : levelBits.clone();
         this.totalMemory = totalMemory;
         this.frameSize = frameSize;
         this.totalFrames = totalMemory / frameSize;
-        this.frameTable = new HashMap<>();
+        this.frameOwners = new int[totalFrames];
+        this.framePages = new int[totalFrames];
         this.processPageTables = new HashMap<>();
-        this.freeFrames = new ArrayList<>();
-
-        for (int i = 0; i < totalFrames; i++) {
-            frameTable.put(i, new FrameInfo());
-            freeFrames.add(i);
-        }
+        this.pageTablesByPid = new PidIndex<>(processPageTables);
+        this.freeFrames = new FrameBitmap(totalFrames);
     }
 
     public boolean allocateProcess(ProcessInfo process) {
-        if (freeFrames.size() < process.numPages) {
+        return allocateProcess(process, false);
+    }
+
+    /**
+     * Maps every page of {@code process} to a free frame, lowest frames first.
+     * With {@code contiguous} the pages take one run of consecutive frames,
+     * which fails when free memory is too fragmented even if enough frames
+     * are free in total.
+     */
+    public boolean allocateProcess(ProcessInfo process, boolean contiguous) {
+        if (freeFrames.getFreeCount() < process.numPages) {
             return false;
         }
+        if (levelBits != null && process.numPages > RadixPageTable.maxPages(levelBits)) {
+            return false;
+        }
+
+        int firstFrame = 0;
+        if (contiguous) {
+            firstFrame = freeFrames.allocateRun(process.numPages);
+            if (firstFrame < 0) {
+                return false;
+            }
+        }
 
-        PageTable pageTable = new PageTable(process.processId);
+        PageTable pageTable = levelBits == null ? new PageTable(process.processId)
+                : new PageTable(process.processId, levelBits);
+        pageTable.reserve(process.numPages);
 
         for (int page = 0; page < process.numPages; page++) {
-            int frame = freeFrames.remove(0);
-            pageTable.pageToFrame.put(page, frame);
-            frameTable.put(frame, new FrameInfo(process.processId, page));
+            int frame = contiguous ? firstFrame + page : freeFrames.allocate();
+            pageTable.map(page, frame);
+            frameOwners[frame] = process.processId;
+            framePages[frame] = page;
         }
 
-        processPageTables.put(process.processId, pageTable);
+        pageTablesByPid.put(process.processId, pageTable);
         return true;
     }
 
+    /** Translates through the TLB first when one is attached, filling it on a miss. */
     public Integer translateAddress(int processId, int pageNumber, int offset) {
-        if (!processPageTables.containsKey(processId)) {
+        int frame = translatePage(processId, pageNumber);
+        if (frame < 0) {
             return null;
         }
+        return (frame * frameSize) + offset;
+    }
 
-        PageTable pageTable = processPageTables.get(processId);
-        if (!pageTable.pageToFrame.containsKey(pageNumber)) {
-            return null;
+    /** Translates {@code logical}, which is {@code page * frameSize + offset}. */
+    @Override
+    public int translate(int processId, int logical) {
+        if (logical < 0) {
+            return AddressTrace.FAULT;
+        }
+        int frame = translatePage(processId, logical / frameSize);
+        return frame < 0 ? AddressTrace.FAULT : frame * frameSize + logical % frameSize;
+    }
+
+    /**
+     * The frame of {@code page}, or -1, through the TLB when one is attached.
+     * TLB lookups are counted per process only for allocated processes, so
+     * pids from a trace never size anything.
+     */
+    private int translatePage(int processId, int page) {
+        PageTable pageTable = pageTablesByPid.get(processId);
+        if (tlb != null) {
+            int frame = tlb.lookup(processId, page);
+            if (frame >= 0) {
+                if (pageTable != null) pageTable.tlbHits++;
+                return frame;
+            }
+            if (pageTable != null) pageTable.tlbMisses++;
         }
 
-        int frame = pageTable.pageToFrame.get(pageNumber);
-        return (frame * frameSize) + offset;
+        if (pageTable == null) {
+            return -1;
+        }
+        int frame = pageTable.lookup(page);
+        if (frame >= 0 && tlb != null) {
+            tlb.insert(processId, page, frame);
+        }
+        return frame;
+    }
+
+    /** Puts {@code tlb} in front of every translation; null removes it. Resets the per-process TLB counts. */
+    public void setTlb(Tlb tlb) {
+        this.tlb = tlb;
+        for (PageTable pageTable : processPageTables.values()) {
+            pageTable.tlbHits = 0;
+            pageTable.tlbMisses = 0;
+        }
+    }
+
+    public Tlb getTlb() {
+        return tlb;
+    }
+
+    /** Memory reads needed to walk one page table: one per radix level, one for a flat table. */
+    public int getTableAccesses() {
+        return levelBits == null ? 1 : levelBits.length;
     }
 
     public int getTotalMemory() {
@@ -109,15 +262,102 @@ public class Paging {
         return totalFrames;
     }
 
+    public boolean isFrameFree(int frame) {
+        return freeFrames.isFree(frame);
+    }
+
+    /** The pid owning {@code frame}, or -1 if it is free. */
+    public int getFrameOwner(int frame) {
+        return freeFrames.isFree(frame) ? -1 : frameOwners[frame];
+    }
+
+    /** The page held in {@code frame}, or -1 if it is free. */
+    public int getFramePage(int frame) {
+        return freeFrames.isFree(frame) ? -1 : framePages[frame];
+    }
+
+    /** A snapshot of one frame table entry. */
+    public FrameInfo getFrameInfo(int frame) {
+        if (freeFrames.isFree(frame)) {
+            return new FrameInfo();
+        }
+        return new FrameInfo(frameOwners[frame], framePages[frame]);
+    }
+
+    /**
+     * Read-only view of the frame table keyed by frame number. Entries are
+     * built on access, so loops over many frames should prefer
+     * {@link #getFrameOwner} and {@link #getFramePage}.
+     */
     public Map<Integer, FrameInfo> getFrameTable() {
-        return frameTable;
+        return new FrameTableView();
     }
 
     public Map<Integer, PageTable> getProcessPageTables() {
         return processPageTables;
     }
 
+    /** Bits per radix page table level, or null if page tables are flat. */
+    public int[] getLevelBits() {
+        return levelBits == null ? null : levelBits.clone();
+    }
+
+    /** Estimated heap used by all page tables. */
+    public long getPageTableOverheadBytes() {
+        long bytes = 0;
+        for (PageTable pageTable : processPageTables.values()) {
+            bytes += pageTable.getOverheadBytes();
+        }
+        return bytes;
+    }
+
     public int getFreeFramesCount() {
-        return freeFrames.size();
+        return freeFrames.getFreeCount();
+    }
+
+    private class FrameTableView extends AbstractMap<Integer, FrameInfo> {
+        @Override
+        public int size() {
+            return totalFrames;
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return key instanceof Integer && (Integer) key >= 0 && (Integer) key < totalFrames;
+        }
+
+        @Override
+        public FrameInfo get(Object key) {
+            return containsKey(key) ? getFrameInfo((Integer) key) : null;
+        }
+
+        @Override
+        public Set<Entry<Integer, FrameInfo>> entrySet() {
+            return new AbstractSet<Entry<Integer, FrameInfo>>() {
+                @Override
+                public int size() {
+                    return totalFrames;
+                }
+
+                @Override
+                public Iterator<Entry<Integer, FrameInfo>> iterator() {
+                    return new Iterator<Entry<Integer, FrameInfo>>() {
+                        private int next = 0;
+
+                        @Override
+                        public boolean hasNext() {
+                            return next < totalFrames;
+                        }
+
+                        @Override
+                        public Entry<Integer, FrameInfo> next() {
+                            if (next >= totalFrames) throw new NoSuchElementException();
+                            int frame = next++;
+                            return new SimpleImmutableEntry<>(frame, getFrameInfo(frame));
+                        }
+                    };
+                }
+            };
+        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,38 @@
+package MemoryManagement;
+
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * Per-pid lookup in front of a {@code Map<Integer, T>}. Pids below
+ * {@value #MAX_INDEXED_PID} are also kept in an array, so translating their
+ * addresses needs no boxed map key; other pids fall back to the map.
+ */
+final class PidIndex<T> {
+    static final int MAX_INDEXED_PID = 1 << 24;
+
+    private final Map<Integer, T> byPid;
+    private Object[] indexed = new Object[16];
+
+    PidIndex(Map<Integer, T> byPid) {
+        this.byPid = byPid;
+    }
+
+    void put(int pid, T value) {
+        byPid.put(pid, value);
+        if (pid >= 0 && pid < MAX_INDEXED_PID) {
+            if (pid >= indexed.length) {
+                indexed = Arrays.copyOf(indexed, Math.max(pid + 1, indexed.length * 2));
+            }
+            indexed[pid] = value;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    T get(int pid) {
+        if (pid >= 0 && pid < MAX_INDEXED_PID) {
+            return pid < indexed.length ? (T) indexed[pid] : null;
+        }
+        return byPid.get(pid);
+    }
+}
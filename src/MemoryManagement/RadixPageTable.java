@@ -0,0 +1,149 @@
+package MemoryManagement;
+
+import java.util.Arrays;
+
+/**
+ * Multi-level page table. A page number is split into one index per level,
+ * most significant first: the first levels select directory entries and the
+ * last one an entry of an {@code int[]} leaf holding frame numbers.
+ * Directories and leaves are only allocated when a page under them is
+ * mapped, so a sparse address space costs a handful of small arrays.
+ *
+ * Memory figures assume a 64-bit JVM with compressed references: 16 bytes
+ * of array header, 4 bytes per reference or int, rounded up to 8 bytes.
+ */
+public final class RadixPageTable {
+    static final int UNMAPPED = -1;
+    private static final int ARRAY_HEADER_BYTES = 16;
+    private static final int SLOT_BYTES = 4;
+
+    private final int[] levelBits;
+    private final int[] levelShifts;
+    private final long maxPages;
+    private final Object[] root;
+    private int directoryCount;
+    private int leafCount;
+    private int mappedPages;
+
+    /**
+     * @param levelBits index bits of each level, root first
+     * @throws IllegalArgumentException unless there are 2 or 3 levels of 1 to 20
+     *                                  bits each and at most 31 bits in total
+     */
+    public RadixPageTable(int... levelBits) {
+        validate(levelBits);
+        this.levelBits = levelBits.clone();
+        this.levelShifts = new int[levelBits.length];
+        int shift = 0;
+        for (int level = levelBits.length - 1; level >= 0; level--) {
+            levelShifts[level] = shift;
+            shift += levelBits[level];
+        }
+        this.maxPages = maxPages(levelBits);
+        this.root = new Object[1 << levelBits[0]];
+        this.directoryCount = 1;
+    }
+
+    /** @throws IllegalArgumentException if {@code levelBits} cannot describe a table */
+    public static void validate(int[] levelBits) {
+        if (levelBits == null || levelBits.length < 2 || levelBits.length > 3)
+            throw new IllegalArgumentException("A radix page table needs 2 or 3 levels");
+        int total = 0;
+        for (int bits : levelBits) {
+            if (bits < 1 || bits > 20)
+                throw new IllegalArgumentException("Each level needs 1 to 20 bits, got " + bits);
+            total += bits;
+        }
+        if (total > 31)
+            throw new IllegalArgumentException("Levels cover " + total + " bits; at most 31 are allowed");
+    }
+
+    /** Number of pages the levels can address. */
+    public long getMaxPages() {
+        return maxPages;
+    }
+
+    static long maxPages(int[] levelBits) {
+        int total = 0;
+        for (int bits : levelBits) total += bits;
+        return 1L << total;
+    }
+
+    /** Maps {@code page} to {@code frame}, allocating the directories and leaf on its path. */
+    public void map(int page, int frame) {
+        if (page < 0 || page >= maxPages)
+            throw new IllegalArgumentException("Page " + page + " is outside the " + maxPages + " pages of this table");
+
+        Object[] directory = root;
+        int last = levelBits.length - 1;
+        for (int level = 0; level < last - 1; level++) {
+            int index = index(page, level);
+            Object[] child = (Object[]) directory[index];
+            if (child == null) {
+                child = new Object[1 << levelBits[level + 1]];
+                directory[index] = child;
+                directoryCount++;
+            }
+            directory = child;
+        }
+
+        int index = index(page, last - 1);
+        int[] leaf = (int[]) directory[index];
+        if (leaf == null) {
+            leaf = new int[1 << levelBits[last]];
+            Arrays.fill(leaf, UNMAPPED);
+            directory[index] = leaf;
+            leafCount++;
+        }
+        int slot = index(page, last);
+        if (leaf[slot] == UNMAPPED) mappedPages++;
+        leaf[slot] = frame;
+    }
+
+    /** The frame holding {@code page}, or -1 if it is not mapped. */
+    public int lookup(int page) {
+        if (page < 0 || page >= maxPages) return UNMAPPED;
+
+        Object[] directory = root;
+        int last = levelBits.length - 1;
+        for (int level = 0; level < last - 1; level++) {
+            directory = (Object[]) directory[index(page, level)];
+            if (directory == null) return UNMAPPED;
+        }
+        int[] leaf = (int[]) directory[index(page, last - 1)];
+        return leaf == null ? UNMAPPED : leaf[index(page, last)];
+    }
+
+    public int getMappedPages() {
+        return mappedPages;
+    }
+
+    /** Directories allocated so far, the root included. */
+    public int getDirectoryCount() {
+        return directoryCount;
+    }
+
+    public int getLeafCount() {
+        return leafCount;
+    }
+
+    /** Estimated heap used by the directories and leaves. */
+    public long getOverheadBytes() {
+        long bytes = arrayBytes(root.length);
+        if (levelBits.length == 3) bytes += (long) (directoryCount - 1) * arrayBytes(1 << levelBits[1]);
+        bytes += (long) leafCount * arrayBytes(1 << levelBits[levelBits.length - 1]);
+        return bytes;
+    }
+
+    public int[] getLevelBits() {
+        return levelBits.clone();
+    }
+
+    private int index(int page, int level) {
+        return (page >>> levelShifts[level]) & ((1 << levelBits[level]) - 1);
+    }
+
+    static long arrayBytes(int slots) {
+        return (ARRAY_HEADER_BYTES + (long) slots * SLOT_BYTES + 7) & ~7L;
+    }
+}
@@ -4,10 +4,14 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Map;
 
-public class Segmentation {
+public class Segmentation implements AddressTranslator {
+    /** A logical address for the batch APIs is {@code segment << SEGMENT_SHIFT | offset}. */
+    public static final int SEGMENT_SHIFT = 24;
+
     private int totalMemory;
     private int nextAvailableAddress;
     private Map<Integer, SegmentTable> processSegmentTables;
+    private PidIndex<SegmentTable> segmentTablesByPid;
 
     public static class Segment {
         public String name;
@@ -58,6 +62,7 @@ public class Segmentation {
         this.totalMemory = totalMemory;
         this.nextAvailableAddress = 0;
         this.processSegmentTables = new HashMap<>();
+        this.segmentTablesByPid = new PidIndex<>(processSegmentTables);
     }
 
     public boolean allocateProcess(ProcessInfo process) {
@@ -75,25 +80,39 @@ public class Segmentation {
             segmentTable.segments.add(allocatedSeg);
         }
 
-        processSegmentTables.put(process.processId, segmentTable);
+        segmentTablesByPid.put(process.processId, segmentTable);
         return true;
     }
 
     public Integer translateAddress(int processId, int segmentNumber, int offset) {
-        if (!processSegmentTables.containsKey(processId)) {
-            return null;
+        int physical = translateSegment(processId, segmentNumber, offset);
+        return physical == AddressTrace.FAULT ? null : physical;
+    }
+
+    /** The logical address of {@code offset} in {@code segment}, as the batch APIs take it. */
+    public static int logicalAddress(int segment, int offset) {
+        return (segment << SEGMENT_SHIFT) | offset;
+    }
+
+    /** Translates a {@link #logicalAddress logical address}. */
+    @Override
+    public int translate(int processId, int logical) {
+        if (logical < 0) {
+            return AddressTrace.FAULT;
         }
+        return translateSegment(processId, logical >>> SEGMENT_SHIFT, logical & ((1 << SEGMENT_SHIFT) - 1));
+    }
 
-        SegmentTable segmentTable = processSegmentTables.get(processId);
-        if (segmentNumber >= segmentTable.segments.size()) {
-            return null;
+    private int translateSegment(int processId, int segmentNumber, int offset) {
+        SegmentTable segmentTable = segmentTablesByPid.get(processId);
+        if (segmentTable == null || segmentNumber < 0 || segmentNumber >= segmentTable.segments.size()) {
+            return AddressTrace.FAULT;
         }
 
         Segment segment = segmentTable.segments.get(segmentNumber);
-        if (offset >= segment.limit) {
-            return null;
+        if (offset < 0 || offset >= segment.limit) {
+            return AddressTrace.FAULT;
         }
-
         return segment.base + offset;
     }
 
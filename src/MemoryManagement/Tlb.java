@@ -0,0 +1,160 @@
+package MemoryManagement;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * Set-associative translation lookaside buffer caching (pid, page) to frame
+ * mappings in front of a page table. A page always goes to set
+ * {@code page % sets}. Within its set it may take any of the
+ * {@code associativity} ways, and when the set is full one way is evicted,
+ * either the least recently used or a random one.
+ *
+ * Entries are tagged with the pid. With {@code flushOnSwitch} the whole
+ * buffer is emptied whenever a lookup comes from a different process than
+ * the previous one, like a TLB without address space identifiers.
+ *
+ * Hits and misses are counted in total; {@link Paging} keeps the per-process
+ * counts for the pids it allocated. Random replacement uses a fixed seed, so
+ * a run can be repeated exactly.
+ */
+public final class Tlb {
+    public enum Replacement { LRU, RANDOM }
+
+    private static final int NO_PROCESS = Integer.MIN_VALUE;
+    private static final int EMPTY = -1;
+
+    private final int entries;
+    private final int associativity;
+    private final int sets;
+    private final Replacement replacement;
+    private final boolean flushOnSwitch;
+    private final SplittableRandom random = new SplittableRandom(42);
+
+    private final int[] tagPids;
+    private final int[] tagPages;
+    private final int[] frames;
+    private final long[] lastUse;
+    private long clock;
+
+    private int currentPid = NO_PROCESS;
+    private long hits;
+    private long misses;
+    private long flushes;
+
+    /**
+     * @throws IllegalArgumentException unless {@code entries} is a positive
+     *                                  multiple of a positive {@code associativity}
+     */
+    public Tlb(int entries, int associativity, Replacement replacement, boolean flushOnSwitch) {
+        if (entries <= 0 || associativity <= 0 || entries % associativity != 0)
+            throw new IllegalArgumentException("TLB entries must be a positive multiple of the associativity");
+        this.entries = entries;
+        this.associativity = associativity;
+        this.sets = entries / associativity;
+        this.replacement = replacement;
+        this.flushOnSwitch = flushOnSwitch;
+        this.tagPids = new int[entries];
+        this.tagPages = new int[entries];
+        this.frames = new int[entries];
+        this.lastUse = new long[entries];
+        Arrays.fill(tagPages, EMPTY);
+    }
+
+    /** The cached frame of {@code page}, or -1 on a miss. Counts the access either way. */
+    public int lookup(int pid, int page) {
+        if (pid != currentPid) {
+            if (flushOnSwitch && currentPid != NO_PROCESS) flush();
+            currentPid = pid;
+        }
+
+        if (page >= 0) {
+            int base = Math.floorMod(page, sets) * associativity;
+            for (int way = base; way < base + associativity; way++) {
+                if (tagPages[way] == page && tagPids[way] == pid) {
+                    lastUse[way] = ++clock;
+                    hits++;
+                    return frames[way];
+                }
+            }
+        }
+        misses++;
+        return -1;
+    }
+
+    /** Caches {@code page} of {@code pid} after a miss, evicting a way of its set if needed. */
+    public void insert(int pid, int page, int frame) {
+        if (page < 0) return;
+
+        int base = Math.floorMod(page, sets) * associativity;
+        int victim = -1;
+        for (int way = base; way < base + associativity && victim < 0; way++) {
+            if (tagPages[way] == EMPTY) victim = way;
+        }
+        if (victim < 0) {
+            if (replacement == Replacement.RANDOM) {
+                victim = base + random.nextInt(associativity);
+            } else {
+                victim = base;
+                for (int way = base + 1; way < base + associativity; way++) {
+                    if (lastUse[way] < lastUse[victim]) victim = way;
+                }
+            }
+        }
+        tagPids[victim] = pid;
+        tagPages[victim] = page;
+        frames[victim] = frame;
+        lastUse[victim] = ++clock;
+    }
+
+    /** Empties every entry; the counters are kept. */
+    public void flush() {
+        Arrays.fill(tagPages, EMPTY);
+        flushes++;
+    }
+
+    /**
+     * Average time of one memory reference in nanoseconds. A hit costs the TLB
+     * lookup and the access itself; a miss also costs {@code tableAccesses}
+     * page table reads.
+     */
+    public double getEffectiveAccessTime(double tlbNanos, double memoryNanos, int tableAccesses) {
+        double hitRatio = getHitRatio();
+        double hitTime = tlbNanos + memoryNanos;
+        double missTime = tlbNanos + (tableAccesses + 1) * memoryNanos;
+        return hitRatio * hitTime + (1 - hitRatio) * missTime;
+    }
+
+    public double getHitRatio() {
+        long lookups = hits + misses;
+        return lookups == 0 ? 0 : (double) hits / lookups;
+    }
+
+    public long getHits() {
+        return hits;
+    }
+
+    public long getMisses() {
+        return misses;
+    }
+
+    public long getFlushes() {
+        return flushes;
+    }
+
+    public int getEntries() {
+        return entries;
+    }
+
+    public int getAssociativity() {
+        return associativity;
+    }
+
+    public Replacement getReplacement() {
+        return replacement;
+    }
+
+    public boolean isFlushOnSwitch() {
+        return flushOnSwitch;
+    }
+}
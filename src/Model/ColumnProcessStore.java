@@ -0,0 +1,113 @@
+package Model;
+
+import java.util.Arrays;
+
+/** In-heap {@link ProcessStore} keeping each column in its own int[]. */
+class ColumnProcessStore implements ProcessStore {
+    private static final int INITIAL_CAPACITY = 16;
+    private static final int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+
+    private int size;
+    private int[] arrivalTimes;
+    private int[] burstTimes;
+    private int[] priorities;
+    private int[] memorySizes;
+
+    ColumnProcessStore() {
+        this.size = 0;
+        this.arrivalTimes = new int[INITIAL_CAPACITY];
+        this.burstTimes = new int[INITIAL_CAPACITY];
+        this.priorities = new int[INITIAL_CAPACITY];
+        this.memorySizes = new int[INITIAL_CAPACITY];
+    }
+
+    @Override
+    public long size() {
+        return size;
+    }
+
+    @Override
+    public int getArrivalTime(long index) {
+        return arrivalTimes[(int) index];
+    }
+
+    @Override
+    public int getBurstTime(long index) {
+        return burstTimes[(int) index];
+    }
+
+    @Override
+    public int getPriority(long index) {
+        return priorities[(int) index];
+    }
+
+    @Override
+    public int getMemorySize(long index) {
+        return memorySizes[(int) index];
+    }
+
+    @Override
+    public void setPriority(long index, int priority) {
+        priorities[(int) index] = priority;
+    }
+
+    @Override
+    public void setMemorySize(long index, int memorySize) {
+        memorySizes[(int) index] = memorySize;
+    }
+
+    @Override
+    public void append(int arrivalTime, int burstTime, int priority, int memorySize) {
+        if (size == arrivalTimes.length) grow(size + 1L);
+        arrivalTimes[size] = arrivalTime;
+        burstTimes[size] = burstTime;
+        priorities[size] = priority;
+        memorySizes[size] = memorySize;
+        size++;
+    }
+
+    @Override
+    public void appendAll(int[] arrivalTimes, int[] burstTimes, int[] priorities, int[] memorySizes,
+                          int offset, int length) {
+        long newSize = (long) size + length;
+        if (newSize > this.arrivalTimes.length) grow(newSize);
+        System.arraycopy(arrivalTimes, offset, this.arrivalTimes, size, length);
+        System.arraycopy(burstTimes, offset, this.burstTimes, size, length);
+        System.arraycopy(priorities, offset, this.priorities, size, length);
+        System.arraycopy(memorySizes, offset, this.memorySizes, size, length);
+        size += length;
+    }
+
+    @Override
+    public void reserve(long capacity) {
+        if (capacity > arrivalTimes.length) resize(checkCapacity(capacity));
+    }
+
+    @Override
+    public void truncate(long size) {
+        if (size < this.size) this.size = (int) size;
+    }
+
+    @Override
+    public void clear() {
+        size = 0;
+    }
+
+    private void grow(long minCapacity) {
+        resize((int) Math.min(Math.max(checkCapacity(minCapacity), 2L * arrivalTimes.length), MAX_CAPACITY));
+    }
+
+    private static int checkCapacity(long capacity) {
+        if (capacity > MAX_CAPACITY)
+            throw new IllegalStateException("The in-memory process store is full at " + MAX_CAPACITY
+                    + " processes; use a mapped store");
+        return (int) capacity;
+    }
+
+    private void resize(int newCapacity) {
+        arrivalTimes = Arrays.copyOf(arrivalTimes, newCapacity);
+        burstTimes = Arrays.copyOf(burstTimes, newCapacity);
+        priorities = Arrays.copyOf(priorities, newCapacity);
+        memorySizes = Arrays.copyOf(memorySizes, newCapacity);
+    }
+}
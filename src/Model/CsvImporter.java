@@ -0,0 +1,254 @@
+package Model;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * Bulk loader for process tables stored as CSV, one process per line:
+ * <pre>
+ * arrival,burst[,priority[,memory]]
+ * </pre>
+ * Fields may also be separated by semicolons or blanks. Blank lines, lines
+ * starting with {@code #} and a header line at the top of the file are skipped.
+ *
+ * The file is memory-mapped and integers are parsed straight from the bytes,
+ * so no String is created per line. Large files are cut at line boundaries
+ * into chunks of about {@value #CHUNK_BYTES} bytes, parsed in parallel one
+ * batch per available core at a time, and bulk-appended to the
+ * {@link ProcessList} in file order.
+ */
+public final class CsvImporter {
+    private static final int CHUNK_BYTES = 8 << 20;
+    private static final int MAX_FIELDS = 4;
+
+    private CsvImporter() {}
+
+    /**
+     * Appends every process in {@code file} to {@code target} and returns how
+     * many were read. Nothing is added if any line is invalid.
+     *
+     * @throws IOException if the file cannot be read or a line is malformed;
+     *                     the message names the offending line
+     */
+    public static long importFile(Path file, ProcessList target) throws IOException {
+        long sizeBefore = target.getStore().size();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long[] bounds = chunkBounds(channel);
+            int chunkCount = bounds.length - 1;
+            int batchSize = Runtime.getRuntime().availableProcessors();
+            for (int first = 0; first < chunkCount; first += batchSize) {
+                int batchStart = first;
+                Chunk[] chunks = new Chunk[Math.min(batchSize, chunkCount - first)];
+                IntStream.range(0, chunks.length).parallel().forEach(i -> {
+                    int index = batchStart + i;
+                    chunks[i] = parse(channel, bounds[index], bounds[index + 1], index == 0);
+                });
+                for (Chunk chunk : chunks) {
+                    if (chunk.errorOffset >= 0) {
+                        throw new IOException("Line " + lineNumber(channel, chunk.errorOffset) + ": " + chunk.error);
+                    }
+                    target.addProcesses(chunk.arrivalTimes, chunk.burstTimes, chunk.priorities,
+                            chunk.memorySizes, 0, chunk.size);
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            target.truncate(sizeBefore);
+            throw e;
+        }
+        return target.getStore().size() - sizeBefore;
+    }
+
+    /** Chunk start offsets plus the file length; every inner bound follows a newline. */
+    private static long[] chunkBounds(FileChannel channel) throws IOException {
+        long length = channel.size();
+        List<Long> bounds = new ArrayList<>();
+        bounds.add(0L);
+        ByteBuffer probe = ByteBuffer.allocate(4096);
+        long position = CHUNK_BYTES;
+        while (position < length) {
+            long newline = -1;
+            for (long p = position; p < length && newline < 0; p += probe.capacity()) {
+                probe.clear();
+                int read = channel.read(probe, p);
+                for (int i = 0; i < read; i++) {
+                    if (probe.get(i) == '\n') {
+                        newline = p + i;
+                        break;
+                    }
+                }
+            }
+            if (newline < 0) break;
+            bounds.add(newline + 1);
+            position = newline + 1 + CHUNK_BYTES;
+        }
+        bounds.add(length);
+        long[] result = new long[bounds.size()];
+        for (int i = 0; i < result.length; i++) result[i] = bounds.get(i);
+        return result;
+    }
+
+    private static Chunk parse(FileChannel channel, long start, long end, boolean firstChunk) {
+        Chunk chunk = new Chunk((int) Math.min((end - start) / 16 + 16, 1 << 20));
+        if (end - start > Integer.MAX_VALUE) {
+            chunk.fail(start, "line too long");
+            return chunk;
+        }
+        MappedByteBuffer bytes;
+        try {
+            bytes = channel.map(FileChannel.MapMode.READ_ONLY, start, end - start);
+        } catch (IOException e) {
+            chunk.fail(start, "could not map file: " + e.getMessage());
+            return chunk;
+        }
+
+        int limit = bytes.limit();
+        int pos = 0;
+        int[] fields = new int[MAX_FIELDS];
+        boolean atFileStart = firstChunk;
+        while (pos < limit) {
+            int lineStart = pos;
+            pos = skipBlanks(bytes, pos, limit);
+            if (pos == limit) break;
+            byte b = bytes.get(pos);
+            if (isLineEnd(b) || b == '#') {
+                pos = nextLine(bytes, pos, limit);
+                continue;
+            }
+            if (atFileStart && isLetter(b)) {
+                pos = nextLine(bytes, pos, limit);
+                atFileStart = false;
+                continue;
+            }
+            atFileStart = false;
+
+            int count = 0;
+            while (true) {
+                if (count == MAX_FIELDS) {
+                    chunk.fail(start + lineStart, "expected at most " + MAX_FIELDS + " values");
+                    return chunk;
+                }
+                b = bytes.get(pos);
+                boolean negative = b == '-';
+                if (negative) pos++;
+                if (pos == limit || !isDigit(bytes.get(pos))) {
+                    chunk.fail(start + lineStart, "expected an integer");
+                    return chunk;
+                }
+                long value = 0;
+                while (pos < limit && isDigit(b = bytes.get(pos))) {
+                    value = value * 10 + (b - '0');
+                    if (value > Integer.MAX_VALUE) {
+                        chunk.fail(start + lineStart, "value out of range");
+                        return chunk;
+                    }
+                    pos++;
+                }
+                fields[count++] = (int) (negative ? -value : value);
+
+                pos = skipBlanks(bytes, pos, limit);
+                if (pos == limit || isLineEnd(b = bytes.get(pos))) break;
+                if (b == ',' || b == ';') {
+                    pos = skipBlanks(bytes, pos + 1, limit);
+                    if (pos == limit || isLineEnd(bytes.get(pos))) break;
+                } else if (!isDigit(b) && b != '-') {
+                    chunk.fail(start + lineStart, "unexpected character '" + (char) b + "'");
+                    return chunk;
+                }
+            }
+            pos = nextLine(bytes, pos, limit);
+
+            if (count < 2) {
+                chunk.fail(start + lineStart, "expected arrival and burst time");
+                return chunk;
+            }
+            if (fields[0] < 0 || fields[1] <= 0) {
+                chunk.fail(start + lineStart, "arrival time must be >= 0 and burst time must be > 0");
+                return chunk;
+            }
+            chunk.add(fields[0], fields[1], count > 2 ? fields[2] : 0, count > 3 ? fields[3] : 0);
+        }
+        return chunk;
+    }
+
+    private static int skipBlanks(ByteBuffer bytes, int pos, int limit) {
+        while (pos < limit && (bytes.get(pos) == ' ' || bytes.get(pos) == '\t')) pos++;
+        return pos;
+    }
+
+    private static int nextLine(ByteBuffer bytes, int pos, int limit) {
+        while (pos < limit && bytes.get(pos) != '\n') pos++;
+        return Math.min(pos + 1, limit);
+    }
+
+    private static boolean isLineEnd(byte b) {
+        return b == '\n' || b == '\r';
+    }
+
+    private static boolean isDigit(byte b) {
+        return b >= '0' && b <= '9';
+    }
+
+    private static boolean isLetter(byte b) {
+        return (b >= 'a' && b <= 'z') || (b >= 'A' && b <= 'Z');
+    }
+
+    /** 1-based line of {@code offset}; only used to report an error. */
+    private static long lineNumber(FileChannel channel, long offset) throws IOException {
+        long line = 1;
+        ByteBuffer buffer = ByteBuffer.allocate(1 << 16);
+        for (long p = 0; p < offset; p += buffer.capacity()) {
+            buffer.clear();
+            int read = channel.read(buffer, p);
+            if (read <= 0) break;
+            for (int i = 0; i < read && p + i < offset; i++) {
+                if (buffer.get(i) == '\n') line++;
+            }
+        }
+        return line;
+    }
+
+    private static final class Chunk {
+        int[] arrivalTimes;
+        int[] burstTimes;
+        int[] priorities;
+        int[] memorySizes;
+        int size;
+        long errorOffset = -1;
+        String error;
+
+        Chunk(int capacity) {
+            arrivalTimes = new int[capacity];
+            burstTimes = new int[capacity];
+            priorities = new int[capacity];
+            memorySizes = new int[capacity];
+        }
+
+        void add(int arrivalTime, int burstTime, int priority, int memorySize) {
+            if (size == arrivalTimes.length) {
+                int newCapacity = size * 2;
+                arrivalTimes = Arrays.copyOf(arrivalTimes, newCapacity);
+                burstTimes = Arrays.copyOf(burstTimes, newCapacity);
+                priorities = Arrays.copyOf(priorities, newCapacity);
+                memorySizes = Arrays.copyOf(memorySizes, newCapacity);
+            }
+            arrivalTimes[size] = arrivalTime;
+            burstTimes[size] = burstTime;
+            priorities[size] = priority;
+            memorySizes[size] = memorySize;
+            size++;
+        }
+
+        void fail(long offset, String message) {
+            errorOffset = offset;
+            error = message;
+        }
+    }
+}
@@ -0,0 +1,208 @@
+package Model;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+
+/**
+ * {@link ProcessStore} kept in a memory-mapped file of fixed-width records, so
+ * the process table may be far larger than the Java heap and the OS page cache
+ * decides what stays resident.
+ *
+ * Layout: a 16-byte header (magic, record size, record count) followed by one
+ * 16-byte record per process holding arrival time, burst time, priority and
+ * memory size. The file is mapped in 1 GiB windows because a single
+ * {@link MappedByteBuffer} cannot exceed 2 GiB. Records are 16-byte aligned, so
+ * none straddles two windows.
+ *
+ * Reads use absolute gets and are safe from several threads at once; appends
+ * must come from a single thread with no concurrent readers.
+ */
+public class MappedProcessStore implements ProcessStore, Closeable {
+    public static final int RECORD_BYTES = 16;
+    private static final int HEADER_BYTES = 16;
+    private static final int MAGIC = 0x4D4F5350; // "MOSP"
+    private static final int WINDOW_SHIFT = 30;
+    private static final long WINDOW_BYTES = 1L << WINDOW_SHIFT;
+    private static final long INITIAL_CAPACITY_BYTES = 1L << 16;
+
+    private final FileChannel channel;
+    private final ArrayList<MappedByteBuffer> windows;
+    private long capacityBytes;
+    private long size;
+
+    private MappedProcessStore(FileChannel channel) {
+        this.channel = channel;
+        this.windows = new ArrayList<>();
+    }
+
+    /** Opens the store at {@code file}, creating an empty one if it does not exist yet. */
+    public static MappedProcessStore open(Path file) throws IOException {
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        MappedProcessStore store = new MappedProcessStore(channel);
+        try {
+            long length = channel.size();
+            if (length == 0) {
+                store.remap(INITIAL_CAPACITY_BYTES);
+                store.header().putInt(0, MAGIC).putInt(4, RECORD_BYTES).putLong(8, 0);
+            } else {
+                store.remap(length);
+                ByteBuffer header = store.header();
+                if (length < HEADER_BYTES || header.getInt(0) != MAGIC || header.getInt(4) != RECORD_BYTES)
+                    throw new IOException("Not a process store file: " + file);
+                long count = header.getLong(8);
+                if (count < 0 || count > (length - HEADER_BYTES) / RECORD_BYTES)
+                    throw new IOException("Not a process store file: " + file);
+                store.size = count;
+            }
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+        return store;
+    }
+
+    @Override
+    public long size() {
+        return size;
+    }
+
+    @Override
+    public int getArrivalTime(long index) {
+        return readInt(index, 0);
+    }
+
+    @Override
+    public int getBurstTime(long index) {
+        return readInt(index, 4);
+    }
+
+    @Override
+    public int getPriority(long index) {
+        return readInt(index, 8);
+    }
+
+    @Override
+    public int getMemorySize(long index) {
+        return readInt(index, 12);
+    }
+
+    @Override
+    public void setPriority(long index, int priority) {
+        writeInt(index, 8, priority);
+    }
+
+    @Override
+    public void setMemorySize(long index, int memorySize) {
+        writeInt(index, 12, memorySize);
+    }
+
+    @Override
+    public void append(int arrivalTime, int burstTime, int priority, int memorySize) {
+        ensureCapacity(size + 1);
+        writeRecord(size, arrivalTime, burstTime, priority, memorySize);
+        size++;
+        header().putLong(8, size);
+    }
+
+    @Override
+    public void appendAll(int[] arrivalTimes, int[] burstTimes, int[] priorities, int[] memorySizes,
+                          int offset, int length) {
+        ensureCapacity(size + length);
+        for (int i = 0; i < length; i++) {
+            writeRecord(size + i, arrivalTimes[offset + i], burstTimes[offset + i],
+                    priorities[offset + i], memorySizes[offset + i]);
+        }
+        size += length;
+        header().putLong(8, size);
+    }
+
+    @Override
+    public void reserve(long capacity) {
+        ensureCapacity(capacity);
+    }
+
+    @Override
+    public void truncate(long size) {
+        if (size >= this.size) return;
+        this.size = Math.max(size, 0);
+        header().putLong(8, this.size);
+    }
+
+    @Override
+    public void clear() {
+        size = 0;
+        header().putLong(8, 0);
+    }
+
+    @Override
+    public void close() throws IOException {
+        for (MappedByteBuffer window : windows) {
+            window.force();
+        }
+        channel.close();
+    }
+
+    private int readInt(long index, int field) {
+        checkIndex(index);
+        long offset = offset(index) + field;
+        return windows.get((int) (offset >>> WINDOW_SHIFT)).getInt((int) (offset & (WINDOW_BYTES - 1)));
+    }
+
+    private void writeInt(long index, int field, int value) {
+        checkIndex(index);
+        long offset = offset(index) + field;
+        windows.get((int) (offset >>> WINDOW_SHIFT)).putInt((int) (offset & (WINDOW_BYTES - 1)), value);
+    }
+
+    private void writeRecord(long index, int arrivalTime, int burstTime, int priority, int memorySize) {
+        long offset = offset(index);
+        ByteBuffer window = windows.get((int) (offset >>> WINDOW_SHIFT));
+        int position = (int) (offset & (WINDOW_BYTES - 1));
+        window.putInt(position, arrivalTime)
+                .putInt(position + 4, burstTime)
+                .putInt(position + 8, priority)
+                .putInt(position + 12, memorySize);
+    }
+
+    private void ensureCapacity(long records) {
+        long end = offset(records);
+        if (end <= capacityBytes) return;
+        try {
+            remap(Math.max(end, capacityBytes * 2));
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not grow process store", e);
+        }
+    }
+
+    private void checkIndex(long index) {
+        if (index < 0 || index >= size)
+            throw new IndexOutOfBoundsException("No process record at index " + index);
+    }
+
+    private static long offset(long index) {
+        return HEADER_BYTES + index * RECORD_BYTES;
+    }
+
+    private ByteBuffer header() {
+        return windows.get(0);
+    }
+
+    private void remap(long newCapacityBytes) throws IOException {
+        int keep = (int) (capacityBytes >>> WINDOW_SHIFT); // full windows never change
+        while (windows.size() > keep) {
+            windows.remove(windows.size() - 1);
+        }
+        for (long start = (long) keep << WINDOW_SHIFT; start < newCapacityBytes; start += WINDOW_BYTES) {
+            long length = Math.min(WINDOW_BYTES, newCapacityBytes - start);
+            windows.add(channel.map(FileChannel.MapMode.READ_WRITE, start, length));
+        }
+        capacityBytes = newCapacityBytes;
+    }
+}
@@ -1,20 +1,16 @@
 package Model;
 
+/**
+ * Flyweight view of one row of the {@link ProcessList} columns. Reads and
+ * writes go straight to the list, so views are cheap to create and never stale.
+ */
 public class Process {
-    private int pid;
-    private int arrivalTime;
-    private int burstTime;
-    private int priority;
-    private int completionTime;
-    private int turnAroundTime;
-    private int waitingTime;
-    private int memorySize;
+    private final ProcessList owner;
+    private final int pid;
 
-    public Process(int arrivalTime, int burstTime, int pid) {
+    Process(ProcessList owner, int pid) {
+        this.owner = owner;
         this.pid = pid;
-        this.arrivalTime = arrivalTime;
-        this.burstTime = burstTime;
-        this.memorySize = 0;
     }
 
     public int getPid() {
@@ -22,50 +18,26 @@ public class Process {
     }
 
     public int getArrivalTime() {
-        return arrivalTime;
+        return owner.getArrivalTime(pid);
     }
 
     public int getBurstTime() {
-        return burstTime;
+        return owner.getBurstTime(pid);
     }
 
     public int getPriority() {
-        return priority;
-    }
-
-    public int getCompletionTime() {
-        return completionTime;
-    }
-
-    public int getTurnAroundTime() {
-        return turnAroundTime;
-    }
-
-    public int getWaitingTime() {
-        return waitingTime;
+        return owner.getPriority(pid);
     }
 
     public int getMemorySize() {
-        return memorySize;
+        return owner.getMemorySize(pid);
     }
 
     public void setPriority(int priority) {
-        this.priority = priority;
-    }
-
-    public void setCompletionTime(int completionTime) {
-        this.completionTime = completionTime;
-    }
-
-    public void setTurnAroundTime(int turnAroundTime) {
-        this.turnAroundTime = turnAroundTime;
-    }
-
-    public void setWaitingTime(int waitingTime) {
-        this.waitingTime = waitingTime;
+        owner.setPriority(pid, priority);
     }
 
     public void setMemorySize(int memorySize) {
-        this.memorySize = memorySize;
+        owner.setMemorySize(pid, memorySize);
     }
-}
\ No newline at end of file
+}
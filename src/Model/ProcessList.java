@@ -1,11 +1,30 @@
 package Model;
-import java.util.ArrayList;
+import java.util.AbstractList;
+import java.util.List;
 
+/**
+ * Process table stored column by column, indexed by pid. The input columns
+ * live in a {@link ProcessStore}: primitive arrays on the heap by default, or a
+ * {@link MappedProcessStore} file for tables larger than the heap.
+ * {@link Process} objects are lightweight views created on demand, so no
+ * per-process object is ever kept. Scheduling results are not stored here;
+ * they belong to the {@code ScheduleResult} of each run.
+ *
+ * A {@link #getFingerprint() fingerprint} of the scheduling inputs is kept up
+ * to date as processes are added, removed or reprioritized, so callers can
+ * tell whether the table changed without scanning it.
+ */
 public class ProcessList {
-    private final ArrayList<Process> processes;
     private static ProcessList INSTANCE = null;
+
+    private ProcessStore store;
+    private final List<Process> view;
+    private long fingerprint;
+    private boolean fingerprintKnown = true;
+
     private ProcessList() {
-        this.processes = new ArrayList<>();
+        this.store = new ColumnProcessStore();
+        this.view = new ProcessView();
     }
 
     public static ProcessList getInstance() {
@@ -15,15 +34,149 @@ public class ProcessList {
     }
 
     public void addProcess(int arrivalTime, int burstTime) {
-        int pid = processes.size();
-        this.processes.add(new Process(arrivalTime, burstTime, pid));
+        store.append(arrivalTime, burstTime, 0, 0);
+        fingerprint += rowHash(store.size() - 1, arrivalTime, burstTime, 0);
+    }
+
+    /**
+     * Appends {@code length} processes read from position {@code offset} of
+     * each column in one bulk copy. Their pids continue from the current size.
+     */
+    public void addProcesses(int[] arrivalTimes, int[] burstTimes, int[] priorities, int[] memorySizes,
+                             int offset, int length) {
+        long firstPid = store.size();
+        store.appendAll(arrivalTimes, burstTimes, priorities, memorySizes, offset, length);
+        for (int i = 0; i < length; i++) {
+            fingerprint += rowHash(firstPid + i, arrivalTimes[offset + i], burstTimes[offset + i], priorities[offset + i]);
+        }
+    }
+
+    /** Removes every process with a pid of {@code size} or more. */
+    public void truncate(long size) {
+        if (fingerprintKnown) {
+            for (long pid = size; pid < store.size(); pid++) {
+                fingerprint -= rowHash(pid, store.getArrivalTime(pid), store.getBurstTime(pid), store.getPriority(pid));
+            }
+        }
+        store.truncate(size);
+    }
+
+    public void clear() {
+        store.clear();
+        fingerprint = 0;
+        fingerprintKnown = true;
+    }
+
+    /** Switches to another backend. Processes already in the list are not copied over. */
+    public void setStore(ProcessStore store) {
+        this.store = store;
+        fingerprint = 0;
+        fingerprintKnown = store.size() == 0;
+    }
+
+    /** Switches back to an empty in-heap store. */
+    public void useHeapStore() {
+        setStore(new ColumnProcessStore());
+    }
+
+    public ProcessStore getStore() {
+        return store;
+    }
+
+    /**
+     * Order-sensitive 64-bit hash of every process's pid, arrival time, burst
+     * time and priority; memory sizes are not included. Equal
+     * tables have equal fingerprints. Only a store opened with records already
+     * in it is scanned, on the first call.
+     */
+    public long getFingerprint() {
+        if (!fingerprintKnown) {
+            long sum = 0;
+            for (long pid = 0; pid < store.size(); pid++) {
+                sum += rowHash(pid, store.getArrivalTime(pid), store.getBurstTime(pid), store.getPriority(pid));
+            }
+            fingerprint = sum;
+            fingerprintKnown = true;
+        }
+        return fingerprint;
+    }
+
+    public boolean isInHeap() {
+        return store instanceof ColumnProcessStore;
+    }
+
+    public boolean isEmpty() {
+        return store.size() == 0;
     }
 
     public int getSize() {
-        return processes.size();
+        return Math.toIntExact(store.size());
+    }
+
+    public List<Process> getProcesses() {
+        return view;
+    }
+
+    public int getArrivalTime(int pid) {
+        return store.getArrivalTime(checkPid(pid));
+    }
+
+    public int getBurstTime(int pid) {
+        return store.getBurstTime(checkPid(pid));
+    }
+
+    public int getPriority(int pid) {
+        return store.getPriority(checkPid(pid));
+    }
+
+    public int getMemorySize(int pid) {
+        return store.getMemorySize(checkPid(pid));
+    }
+
+    public void setPriority(int pid, int priority) {
+        checkPid(pid);
+        fingerprint += rowHash(pid, getArrivalTime(pid), getBurstTime(pid), priority)
+                - rowHash(pid, getArrivalTime(pid), getBurstTime(pid), getPriority(pid));
+        store.setPriority(pid, priority);
     }
 
-    public ArrayList<Process> getProcesses() {
-        return processes;
+    public void setMemorySize(int pid, int memorySize) {
+        store.setMemorySize(checkPid(pid), memorySize);
+    }
+
+    private int checkPid(int pid) {
+        if (pid < 0 || pid >= store.size())
+            throw new IndexOutOfBoundsException("No process with pid " + pid);
+        return pid;
+    }
+
+    /** Row hashes are summed, so rows can be added or removed in O(1); mixing in the pid keeps order significant. */
+    private static long rowHash(long pid, int arrivalTime, int burstTime, int priority) {
+        long h = mix(pid * 0x9E3779B97F4A7C15L + (arrivalTime & 0xFFFFFFFFL));
+        return mix(h ^ ((long) burstTime << 32 | (priority & 0xFFFFFFFFL)));
+    }
+
+    /** SplitMix64 finalizer. */
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    private class ProcessView extends AbstractList<Process> {
+        @Override
+        public Process get(int index) {
+            return new Process(ProcessList.this, checkPid(index));
+        }
+
+        @Override
+        public int size() {
+            return getSize();
+        }
+
+        @Override
+        public void clear() {
+            ProcessList.this.clear();
+        }
     }
 }
@@ -0,0 +1,40 @@
+package Model;
+
+/**
+ * Storage backend behind {@link ProcessList}: the input columns of every
+ * process, addressed by a long index so file-backed stores can exceed the
+ * int range.
+ */
+public interface ProcessStore {
+    long size();
+
+    int getArrivalTime(long index);
+
+    int getBurstTime(long index);
+
+    int getPriority(long index);
+
+    int getMemorySize(long index);
+
+    void setPriority(long index, int priority);
+
+    void setMemorySize(long index, int memorySize);
+
+    void append(int arrivalTime, int burstTime, int priority, int memorySize);
+
+    /** Appends {@code length} records read from position {@code offset} of each column. */
+    default void appendAll(int[] arrivalTimes, int[] burstTimes, int[] priorities, int[] memorySizes,
+                           int offset, int length) {
+        for (int i = offset; i < offset + length; i++) {
+            append(arrivalTimes[i], burstTimes[i], priorities[i], memorySizes[i]);
+        }
+    }
+
+    /** Hint that the store is about to hold {@code capacity} records in total. */
+    default void reserve(long capacity) {}
+
+    /** Drops every record from {@code size} on; a no-op if the store is not larger. */
+    void truncate(long size);
+
+    void clear();
+}
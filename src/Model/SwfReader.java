@@ -0,0 +1,191 @@
+package Model;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Streaming reader for job traces in the Standard Workload Format of the
+ * Parallel Workloads Archive: one job per line, 18 blank-separated fields,
+ * {@code -1} for unknown values, and {@code ;} starting a comment line.
+ *
+ * Fields are parsed straight from a fixed read buffer, so memory stays constant
+ * however large the trace. Jobs map onto processes as follows:
+ * <ul>
+ *   <li>arrival time: submit time (field 2)</li>
+ *   <li>burst time: run time (field 4), at least 1; jobs with an unknown run time are skipped</li>
+ *   <li>memory size: requested memory (field 10), else used memory (field 7), else 0</li>
+ *   <li>priority: queue number (field 15) plus one, or 0 (unset) if unknown</li>
+ * </ul>
+ */
+public class SwfReader implements Closeable {
+    private static final int FIELD_COUNT = 18;
+    private static final int BUFFER_SIZE = 1 << 16;
+    private static final int BATCH_SIZE = 1 << 16;
+
+    private final InputStream in;
+    private final byte[] buffer = new byte[BUFFER_SIZE];
+    private final long[] fields = new long[FIELD_COUNT];
+    private int position;
+    private int limit;
+    private long lineNumber;
+    private long skippedJobs;
+
+    private int arrivalTime;
+    private int burstTime;
+    private int priority;
+    private int memorySize;
+
+    public SwfReader(Path file) throws IOException {
+        this.in = Files.newInputStream(file);
+    }
+
+    /**
+     * Advances to the next usable job.
+     *
+     * @return false at the end of the trace
+     * @throws IOException if the file cannot be read or a job line is malformed
+     */
+    public boolean next() throws IOException {
+        while (true) {
+            int b = peek();
+            if (b < 0) return false;
+            lineNumber++;
+            if (b == ';') {
+                skipLine();
+                continue;
+            }
+            int count = readFields();
+            if (count == 0) continue;
+            if (count < FIELD_COUNT)
+                throw new IOException("Line " + lineNumber + ": expected " + FIELD_COUNT + " fields, found " + count);
+
+            long submitTime = fields[1];
+            long runTime = fields[3];
+            if (runTime < 0 || submitTime < 0) {
+                skippedJobs++;
+                continue;
+            }
+            if (submitTime > Integer.MAX_VALUE || runTime > Integer.MAX_VALUE)
+                throw new IOException("Line " + lineNumber + ": time out of range");
+
+            long memory = fields[9] >= 0 ? fields[9] : Math.max(fields[6], 0);
+            arrivalTime = (int) submitTime;
+            burstTime = (int) Math.max(runTime, 1);
+            priority = fields[14] >= 0 ? (int) Math.min(fields[14] + 1, Integer.MAX_VALUE) : 0;
+            memorySize = (int) Math.min(memory, Integer.MAX_VALUE);
+            return true;
+        }
+    }
+
+    public int getArrivalTime() {
+        return arrivalTime;
+    }
+
+    public int getBurstTime() {
+        return burstTime;
+    }
+
+    public int getPriority() {
+        return priority;
+    }
+
+    public int getMemorySize() {
+        return memorySize;
+    }
+
+    /** Jobs passed over so far because their submit or run time was unknown. */
+    public long getSkippedJobs() {
+        return skippedJobs;
+    }
+
+    /**
+     * Appends every remaining job to {@code target} in bulk batches and returns
+     * how many were added. Nothing is added if the trace turns out malformed.
+     */
+    public long readInto(ProcessList target) throws IOException {
+        long sizeBefore = target.getStore().size();
+        int[] arrivalTimes = new int[BATCH_SIZE];
+        int[] burstTimes = new int[BATCH_SIZE];
+        int[] priorities = new int[BATCH_SIZE];
+        int[] memorySizes = new int[BATCH_SIZE];
+        try {
+            int size = 0;
+            while (next()) {
+                arrivalTimes[size] = arrivalTime;
+                burstTimes[size] = burstTime;
+                priorities[size] = priority;
+                memorySizes[size] = memorySize;
+                if (++size == BATCH_SIZE) {
+                    target.addProcesses(arrivalTimes, burstTimes, priorities, memorySizes, 0, size);
+                    size = 0;
+                }
+            }
+            target.addProcesses(arrivalTimes, burstTimes, priorities, memorySizes, 0, size);
+        } catch (IOException | RuntimeException e) {
+            target.truncate(sizeBefore);
+            throw e;
+        }
+        return target.getStore().size() - sizeBefore;
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+
+    /** Parses the blank-separated numbers of one line; fractions are truncated. */
+    private int readFields() throws IOException {
+        int count = 0;
+        while (true) {
+            int b = read();
+            while (b == ' ' || b == '\t') b = read();
+            if (b < 0 || b == '\n') return count;
+            if (b == '\r') continue;
+
+            boolean negative = b == '-';
+            if (negative) b = read();
+            if (b < '0' || b > '9')
+                throw new IOException("Line " + lineNumber + ": expected a number in field " + (count + 1));
+            long value = 0;
+            while (b >= '0' && b <= '9') {
+                if (value < Long.MAX_VALUE / 10) value = value * 10 + (b - '0');
+                b = read();
+            }
+            if (b == '.') {
+                do b = read(); while (b >= '0' && b <= '9');
+            }
+            if (count < FIELD_COUNT) fields[count] = negative ? -value : value;
+            count++;
+
+            if (b < 0 || b == '\n') return count;
+            if (b != ' ' && b != '\t' && b != '\r')
+                throw new IOException("Line " + lineNumber + ": unexpected character '" + (char) b + "'");
+        }
+    }
+
+    private void skipLine() throws IOException {
+        int b;
+        do b = read(); while (b >= 0 && b != '\n');
+    }
+
+    private int peek() throws IOException {
+        if (position == limit && !fill()) return -1;
+        return buffer[position] & 0xFF;
+    }
+
+    private int read() throws IOException {
+        if (position == limit && !fill()) return -1;
+        return buffer[position++] & 0xFF;
+    }
+
+    private boolean fill() throws IOException {
+        int n = in.read(buffer, 0, BUFFER_SIZE);
+        if (n <= 0) return false;
+        position = 0;
+        limit = n;
+        return true;
+    }
+}
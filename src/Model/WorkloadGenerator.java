@@ -0,0 +1,208 @@
+package Model;
+
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+
+/**
+ * Seeded generator of synthetic workloads for load testing.
+ *
+ * Processes are produced in chunks of {@value #CHUNK_SIZE}. Each chunk draws
+ * from its own {@link SplittableRandom} stream, split off the seed in chunk
+ * order, so chunks are generated in parallel yet the same seed always yields
+ * the same workload. Arrival times are stitched together with a prefix sum
+ * over the chunk totals. Chunks are generated a batch at a time and
+ * bulk-appended to the {@link ProcessList}, so memory outside the store stays
+ * constant however many processes are requested.
+ */
+public class WorkloadGenerator {
+    public enum ArrivalPattern { POISSON, BURSTY }
+
+    public enum BurstDistribution { EXPONENTIAL, PARETO, BIMODAL }
+
+    private static final int CHUNK_SIZE = 1 << 16;
+    private static final int CHUNKS_PER_BATCH = 64;
+    private static final double PARETO_SHAPE = 1.5;
+    private static final double BIMODAL_SHORT_SHARE = 0.8;
+    private static final int MAX_BURST = Integer.MAX_VALUE / 2;
+
+    private long seed = 42;
+    private ArrivalPattern arrivalPattern = ArrivalPattern.POISSON;
+    private BurstDistribution burstDistribution = BurstDistribution.EXPONENTIAL;
+    private double meanBurst = 8;
+    private double load = 0.9;
+    private double meanBatchSize = 20;
+    private int maxPriority = 10;
+    private int minMemorySize = 64;
+    private int maxMemorySize = 4096;
+
+    public WorkloadGenerator setSeed(long seed) {
+        this.seed = seed;
+        return this;
+    }
+
+    public WorkloadGenerator setArrivalPattern(ArrivalPattern arrivalPattern) {
+        this.arrivalPattern = arrivalPattern;
+        return this;
+    }
+
+    public WorkloadGenerator setBurstDistribution(BurstDistribution burstDistribution) {
+        this.burstDistribution = burstDistribution;
+        return this;
+    }
+
+    public WorkloadGenerator setMeanBurst(double meanBurst) {
+        if (!(meanBurst >= 1))
+            throw new IllegalArgumentException("Mean burst time must be at least 1");
+        this.meanBurst = meanBurst;
+        return this;
+    }
+
+    /** Offered CPU load: mean burst time divided by mean time between arrivals. */
+    public WorkloadGenerator setLoad(double load) {
+        if (!(load > 0))
+            throw new IllegalArgumentException("Load must be positive");
+        this.load = load;
+        return this;
+    }
+
+    /** Mean number of processes arriving together in {@link ArrivalPattern#BURSTY} mode. */
+    public WorkloadGenerator setMeanBatchSize(double meanBatchSize) {
+        if (!(meanBatchSize >= 1))
+            throw new IllegalArgumentException("Mean batch size must be at least 1");
+        this.meanBatchSize = meanBatchSize;
+        return this;
+    }
+
+    /** Priorities are uniform in 1..maxPriority; 0 leaves them unset. */
+    public WorkloadGenerator setMaxPriority(int maxPriority) {
+        if (maxPriority < 0)
+            throw new IllegalArgumentException("Max priority must not be negative");
+        this.maxPriority = maxPriority;
+        return this;
+    }
+
+    /** Memory sizes are log-uniform between the two bounds, inclusive. */
+    public WorkloadGenerator setMemorySizeRange(int minMemorySize, int maxMemorySize) {
+        if (minMemorySize <= 0 || maxMemorySize < minMemorySize)
+            throw new IllegalArgumentException("Memory size range must be positive and ascending");
+        this.minMemorySize = minMemorySize;
+        this.maxMemorySize = maxMemorySize;
+        return this;
+    }
+
+    /**
+     * Appends {@code count} processes to {@code target}, with arrivals starting at
+     * time 0 in non-decreasing order.
+     *
+     * @throws IllegalArgumentException if the schedule would not fit the int time range
+     */
+    public void generate(ProcessList target, long count) {
+        if (count < 0)
+            throw new IllegalArgumentException("Count must not be negative");
+        target.getStore().reserve(target.getStore().size() + count);
+
+        SplittableRandom root = new SplittableRandom(seed);
+        int batchCapacity = (int) Math.min(count, (long) CHUNK_SIZE * CHUNKS_PER_BATCH);
+        int[] arrivalTimes = new int[batchCapacity];
+        int[] burstTimes = new int[batchCapacity];
+        int[] priorities = new int[batchCapacity];
+        int[] memorySizes = new int[batchCapacity];
+        double[] offsets = new double[batchCapacity];
+        double clock = 0;
+        long totalBurst = 0;
+
+        for (long done = 0; done < count; ) {
+            int batchSize = (int) Math.min(count - done, batchCapacity);
+            int chunks = (batchSize + CHUNK_SIZE - 1) / CHUNK_SIZE;
+            SplittableRandom[] streams = new SplittableRandom[chunks];
+            for (int c = 0; c < chunks; c++) {
+                streams[c] = root.split();
+            }
+            double[] chunkSpans = new double[chunks];
+            long[] chunkBursts = new long[chunks];
+
+            IntStream.range(0, chunks).parallel().forEach(c -> {
+                int from = c * CHUNK_SIZE;
+                int to = Math.min(from + CHUNK_SIZE, batchSize);
+                SplittableRandom random = streams[c];
+                double local = 0;
+                long bursts = 0;
+                for (int i = from; i < to; i++) {
+                    local += nextGap(random);
+                    offsets[i] = local;
+                    burstTimes[i] = nextBurst(random);
+                    priorities[i] = maxPriority == 0 ? 0 : 1 + random.nextInt(maxPriority);
+                    memorySizes[i] = nextMemorySize(random);
+                    bursts += burstTimes[i];
+                }
+                chunkSpans[c] = local;
+                chunkBursts[c] = bursts;
+            });
+
+            double[] chunkStarts = new double[chunks];
+            for (int c = 0; c < chunks; c++) {
+                chunkStarts[c] = clock;
+                clock += chunkSpans[c];
+                totalBurst += chunkBursts[c];
+            }
+            if (clock + totalBurst > Integer.MAX_VALUE)
+                throw new IllegalArgumentException("Workload would overflow the time range; lower the count, burst or load");
+
+            IntStream.range(0, chunks).parallel().forEach(c -> {
+                int from = c * CHUNK_SIZE;
+                int to = Math.min(from + CHUNK_SIZE, batchSize);
+                for (int i = from; i < to; i++) {
+                    arrivalTimes[i] = (int) (chunkStarts[c] + offsets[i]);
+                }
+            });
+
+            target.addProcesses(arrivalTimes, burstTimes, priorities, memorySizes, 0, batchSize);
+            done += batchSize;
+        }
+    }
+
+    private double nextGap(SplittableRandom random) {
+        double meanGap = meanBurst / load;
+        switch (arrivalPattern) {
+            case BURSTY:
+                // A new batch starts with probability 1/batch size; the rest arrive with it.
+                if (random.nextDouble() * meanBatchSize >= 1) return 0;
+                return exponential(random, meanGap * meanBatchSize);
+            case POISSON:
+            default:
+                return exponential(random, meanGap);
+        }
+    }
+
+    private int nextBurst(SplittableRandom random) {
+        double burst;
+        switch (burstDistribution) {
+            case PARETO:
+                double scale = meanBurst * (PARETO_SHAPE - 1) / PARETO_SHAPE;
+                burst = scale / Math.pow(1 - random.nextDouble(), 1 / PARETO_SHAPE);
+                break;
+            case BIMODAL:
+                // 80% short jobs at a quarter of the mean, 20% long ones at four times it.
+                burst = random.nextDouble() < BIMODAL_SHORT_SHARE
+                        ? exponential(random, meanBurst / 4)
+                        : exponential(random, meanBurst * 4);
+                break;
+            case EXPONENTIAL:
+            default:
+                burst = exponential(random, meanBurst);
+        }
+        return (int) Math.max(1, Math.min(Math.round(burst), MAX_BURST));
+    }
+
+    private int nextMemorySize(SplittableRandom random) {
+        if (minMemorySize == maxMemorySize) return minMemorySize;
+        double logMin = Math.log(minMemorySize);
+        double logMax = Math.log(maxMemorySize + 1.0);
+        int size = (int) Math.exp(logMin + random.nextDouble() * (logMax - logMin));
+        return Math.min(size, maxMemorySize);
+    }
+
+    private static double exponential(SplittableRandom random, double mean) {
+        return -mean * Math.log(1 - random.nextDouble());
+    }
+}
@@ -94,6 +94,13 @@ public class Scripts {
         System.out.println("║    listprocess    - Display all processes                 ║");
         System.out.println("║    clearprocess   - Clear all processes                   ║");
         System.out.println("║    setpriority    - Set priority of a process             ║");
+        System.out.println("║    import <FILE>  - Load processes from a CSV file        ║");
+        System.out.println("║    importswf <FILE>                                       ║");
+        System.out.println("║                   - Load jobs from an SWF trace           ║");
+        System.out.println("║    generate <N> [key=value ...]                           ║");
+        System.out.println("║                   - Generate a seeded random workload     ║");
+        System.out.println("║    mapstore <FILE> | off                                  ║");
+        System.out.println("║                   - Keep processes in a mapped file       ║");
         System.out.println(YELLOW + "╠═══════════════════════════════════════════════════════════╣" + RESET);
         System.out.println(WHITE_BOLD + "║  SCHEDULING COMMANDS:                                     ║" + RESET);
         System.out.println("║    schedule       - Open scheduling algorithms list       ║");
@@ -102,9 +109,29 @@ public class Scripts {
         System.out.println("║    runprioritynp  - Run Priority Non-Preemptive           ║");
         System.out.println("║    runpriorityp   - Run Priority Preemptive               ║");
         System.out.println("║    runrr          - Run Round Robin                       ║");
+        System.out.println("║    compare        - Compare all algorithms side by side   ║");
+        System.out.println("║    runtofile <ALG> <FILE>                                 ║");
+        System.out.println("║                   - Stream schedule events to a file      ║");
+        System.out.println("║    exporttrace <ALG> <FILE> [cpu]                         ║");
+        System.out.println("║                   - Export a Perfetto/Chrome trace        ║");
+        System.out.println("║    online <ALG> [FILE] [follow] [quiet]                   ║");
+        System.out.println("║                   - Schedule processes as they arrive     ║");
+        System.out.println("║    sweeprr <FROM> <TO>                                    ║");
+        System.out.println("║                   - Find the best Round Robin quantum     ║");
         System.out.println(YELLOW + "╠═══════════════════════════════════════════════════════════╣" + RESET);
         System.out.println(WHITE_BOLD + "║  MEMORY MANAGEMENT COMMANDS:                              ║" + RESET);
         System.out.println("║    memory         - Open memory management menu           ║");
+        System.out.println("║    tlb <ENTRIES> <WAYS> [lru|random] [flush|keep]         ║");
+        System.out.println("║                   - Put a TLB in front of paging          ║");
+        System.out.println("║    tlb stats [tlbns=N] [memns=N] | tlb off                ║");
+        System.out.println("║                   - TLB hit rates and access time         ║");
+        System.out.println("║    translatefile <TRACE> [paging|segmentation]            ║");
+        System.out.println("║                   - Translate a file of pid/address lines ║");
+        System.out.println(YELLOW + "╠═══════════════════════════════════════════════════════════╣" + RESET);
+        System.out.println(WHITE_BOLD + "║  PERFORMANCE COMMANDS:                                    ║" + RESET);
+        System.out.println("║    bench <TARGET> [from=N] [to=N] [limit=S]               ║");
+        System.out.println("║                   - Time a scheduler or allocator at scale║");
+        System.out.println("║                     (paging also takes levels=B,B[,B])    ║");
         System.out.println(YELLOW + "╠═══════════════════════════════════════════════════════════╣" + RESET);
         System.out.println(WHITE_BOLD + "║  GUI COMMAND:                                             ║" + RESET);
         System.out.println("║    open gui       - Launch graphical interface            ║");
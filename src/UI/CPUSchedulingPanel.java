@@ -3,10 +3,13 @@ package UI;
 import CPUScheduling.*;
 import Model.Process;
 import Model.ProcessList;
+import Model.ProcessStore;
 import javax.swing.*;
 import javax.swing.table.DefaultTableModel;
 import java.awt.*;
 import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
 
 public class CPUSchedulingPanel extends JPanel {
 
@@ -15,6 +18,7 @@ public class CPUSchedulingPanel extends JPanel {
     private JSpinner quantumSpinner;
     private JLabel lblQuantum;
     private JTextArea resultArea;
+    private JButton btnCompare;
     private JPanel ganttPanel;
     private JTable processTable;
     private DefaultTableModel tableModel;
@@ -79,6 +83,13 @@ public class CPUSchedulingPanel extends JPanel {
         btnRun.addActionListener(e -> runAlgorithm());
         buttonPanel.add(btnRun);
 
+        btnCompare = new JButton("Compare All");
+        btnCompare.setBackground(new Color(60, 179, 113));
+        btnCompare.setForeground(Color.WHITE);
+        btnCompare.setFocusPainted(false);
+        btnCompare.addActionListener(e -> compareAlgorithms());
+        buttonPanel.add(btnCompare);
+
         panel.add(buttonPanel, gbc);
 
         return panel;
@@ -122,7 +133,7 @@ public class CPUSchedulingPanel extends JPanel {
         panel.add(tablePanel, BorderLayout.CENTER);
 
         // Statistics Panel
-        resultArea = new JTextArea(4, 30);
+        resultArea = new JTextArea(8, 30);
         resultArea.setEditable(false);
         resultArea.setFont(new Font("Monospaced", Font.PLAIN, 12));
         resultArea.setBackground(new Color(240, 255, 240));
@@ -175,7 +186,7 @@ public class CPUSchedulingPanel extends JPanel {
     }
 
     private void runAlgorithm() {
-        if (processList.getSize() == 0) {
+        if (processList.isEmpty()) {
             JOptionPane.showMessageDialog(this,
                     "No processes available. Please add processes first.",
                     "No Processes",
@@ -183,41 +194,36 @@ public class CPUSchedulingPanel extends JPanel {
             return;
         }
 
-        int selectedIndex = algorithmSelector.getSelectedIndex();
-        ArrayList<Process> processes = new ArrayList<>(processList.getProcesses());
+        Scheduler scheduler;
+        switch (algorithmSelector.getSelectedIndex()) {
+            case 0: // SJF
+                scheduler = new SJF();
+                break;
+
+            case 1: // Priority Non-Preemptive
+                if (!validatePriorities()) return;
+                scheduler = new Priority(false);
+                break;
+
+            case 2: // Priority Preemptive
+                if (!validatePriorities()) return;
+                scheduler = new Priority(true);
+                break;
+
+            case 3: // Round Robin
+                scheduler = new RoundRobin((Integer) quantumSpinner.getValue());
+                break;
+
+            default:
+                return;
+        }
 
+        ScheduleCache cache = ScheduleCache.getInstance();
         try {
-            switch (selectedIndex) {
-                case 0: // SJF
-                    SJF.apply(processes);
-                    displayResults("SJF", SJF.getProcessesList(), SJF.getGanttChart(),
-                            SJF.getAverageTurnAroundTime(), SJF.getAverageWaitingTime(),
-                            SJF.getCPUUtilization());
-                    break;
-
-                case 1: // Priority Non-Preemptive
-                    if (!validatePriorities()) return;
-                    Priority.applyNonPreemptive(processes);
-                    displayResults("Priority Non-Preemptive", Priority.getProcessesList(),
-                            Priority.getGanttChart(), Priority.getAverageTurnAroundTime(),
-                            Priority.getAverageWaitingTime(), Priority.getCPUUtilization());
-                    break;
-
-                case 2: // Priority Preemptive
-                    if (!validatePriorities()) return;
-                    Priority.applyPreemptive(processes);
-                    displayResults("Priority Preemptive", Priority.getProcessesList(),
-                            Priority.getGanttChart(), Priority.getAverageTurnAroundTime(),
-                            Priority.getAverageWaitingTime(), Priority.getCPUUtilization());
-                    break;
-
-                case 3: // Round Robin
-                    int quantum = (Integer) quantumSpinner.getValue();
-                    RoundRobin.apply(processes, quantum);
-                    displayResults("Round Robin (Q=" + quantum + ")", RoundRobin.getProcessesList(),
-                            RoundRobin.getGanttChart(), RoundRobin.getAverageTurnAroundTime(),
-                            RoundRobin.getAverageWaitingTime(), RoundRobin.getCPUUtilization());
-                    break;
+            if (processList.isInHeap()) {
+                displayResults(cache.schedule(scheduler, processList));
+            } else {
+                displaySummary(scheduler.getName(), cache.summarize(scheduler, processList));
             }
         } catch (Exception e) {
             JOptionPane.showMessageDialog(this,
@@ -227,56 +233,153 @@ public class CPUSchedulingPanel extends JPanel {
         }
     }
 
-    private boolean validatePriorities() {
-        for (Process p : processList.getProcesses()) {
-            if (p.getPriority() == 0) {
-                JOptionPane.showMessageDialog(this,
-                        "Please set priorities for all processes first!\nUse 'Set Priorities' button.",
-                        "Priorities Required",
-                        JOptionPane.WARNING_MESSAGE);
-                return false;
+    private void compareAlgorithms() {
+        if (processList.isEmpty()) {
+            JOptionPane.showMessageDialog(this,
+                    "No processes available. Please add processes first.",
+                    "No Processes",
+                    JOptionPane.WARNING_MESSAGE);
+            return;
+        }
+
+        int quantum = (Integer) quantumSpinner.getValue();
+        btnCompare.setEnabled(false);
+        resultArea.setText("Comparing algorithms...");
+
+        // Large or mapped workloads can take a while, so the window stays responsive meanwhile.
+        new SwingWorker<String, Void>() {
+            @Override
+            protected String doInBackground() {
+                boolean includePriority = hasAllPriorities();
+                List<Scheduler> schedulers = Comparison.allAlgorithms(quantum, includePriority);
+                List<ScheduleMetrics> metrics = new ArrayList<>();
+                if (processList.isInHeap()) {
+                    for (ScheduleResult result : ScheduleCache.getInstance().scheduleAll(schedulers, processList)) {
+                        metrics.add(result.getMetrics());
+                    }
+                } else {
+                    metrics = Comparison.summarizeAll(processList.getStore(), schedulers);
+                }
+
+                StringBuilder text = new StringBuilder();
+                text.append(String.format("%-28s %10s %10s %10s\n", "Algorithm", "Avg TAT", "Avg WT", "CPU Util"));
+                for (int i = 0; i < schedulers.size(); i++) {
+                    text.append(String.format("%-28s %10.2f %10.2f %9.2f%%\n",
+                            schedulers.get(i).getName(),
+                            metrics.get(i).getAverageTurnAroundTime(),
+                            metrics.get(i).getAverageWaitingTime(),
+                            metrics.get(i).getCPUUtilization()));
+                }
+                if (!includePriority) {
+                    text.append("(Priority algorithms skipped: set priorities to include them)");
+                }
+                return text.toString();
             }
+
+            @Override
+            protected void done() {
+                btnCompare.setEnabled(true);
+                try {
+                    resultArea.setText(get());
+                    resultArea.setCaretPosition(0);
+                } catch (InterruptedException | ExecutionException e) {
+                    Throwable cause = e instanceof ExecutionException ? e.getCause() : e;
+                    resultArea.setText("");
+                    JOptionPane.showMessageDialog(CPUSchedulingPanel.this,
+                            "Error comparing algorithms: " + cause.getMessage(),
+                            "Error",
+                            JOptionPane.ERROR_MESSAGE);
+                }
+            }
+        }.execute();
+    }
+
+    private boolean validatePriorities() {
+        if (!hasAllPriorities()) {
+            JOptionPane.showMessageDialog(this,
+                    "Please set priorities for all processes first!\nUse 'Set Priorities' button.",
+                    "Priorities Required",
+                    JOptionPane.WARNING_MESSAGE);
+            return false;
+        }
+        return true;
+    }
+
+    private boolean hasAllPriorities() {
+        ProcessStore store = processList.getStore();
+        for (long i = 0; i < store.size(); i++) {
+            if (store.getPriority(i) == 0) return false;
         }
         return true;
     }
 
-    private void displayResults(String algorithmName, ArrayList<Process> processes,
-                                ArrayList<?> ganttChart, double avgTAT, double avgWT, double cpuUtil) {
+    private void displayResults(ScheduleResult result) {
         // Update Gantt Chart
         ganttPanel.removeAll();
         ganttPanel.setLayout(new BorderLayout());
-        ganttPanel.add(new GanttChartComponent(ganttChart), BorderLayout.CENTER);
+        ganttPanel.add(new GanttChartComponent(result.getGanttChart()), BorderLayout.CENTER);
         ganttPanel.revalidate();
         ganttPanel.repaint();
 
         // Update Process Table
         tableModel.setRowCount(0);
-        for (Process p : processes) {
+        Workload workload = result.getWorkload();
+        for (int i = 0; i < result.size(); i++) {
             tableModel.addRow(new Object[] {
-                    p.getPid(),
-                    p.getArrivalTime(),
-                    p.getBurstTime(),
-                    p.getPriority(),
-                    p.getCompletionTime(),
-                    p.getTurnAroundTime(),
-                    p.getWaitingTime()
+                    workload.getPid(i),
+                    workload.getArrivalTime(i),
+                    workload.getBurstTime(i),
+                    workload.getPriority(i),
+                    result.getCompletionTime(i),
+                    result.getTurnAroundTime(i),
+                    result.getWaitingTime(i)
             });
         }
 
         // Update Statistics
-        resultArea.setText(String.format(
+        showMetrics(result.getAlgorithmName(), result.getMetrics());
+    }
+
+    private void displaySummary(String algorithmName, ScheduleMetrics metrics) {
+        ganttPanel.removeAll();
+        ganttPanel.revalidate();
+        ganttPanel.repaint();
+        tableModel.setRowCount(0);
+        showMetrics(algorithmName, metrics);
+    }
+
+    private void showMetrics(String algorithmName, ScheduleMetrics metrics) {
+        StringBuilder text = new StringBuilder(String.format(
                 "Algorithm: %s\n" +
                         "Average Turnaround Time: %.2f\n" +
                         "Average Waiting Time: %.2f\n" +
-                        "CPU Utilization: %.2f%%",
-                algorithmName, avgTAT, avgWT, cpuUtil
+                        "CPU Utilization: %.2f%%\n" +
+                        "Throughput: %.4f per time unit\n\n",
+                algorithmName, metrics.getAverageTurnAroundTime(),
+                metrics.getAverageWaitingTime(), metrics.getCPUUtilization(), metrics.getThroughput()
         ));
+        text.append(String.format("%-9s %8s %7s %7s %7s %7s %8s\n", "Latency", "Mean", "p50", "p95", "p99", "Max", "Std Dev"));
+        appendLatencyRow(text, "Waiting", metrics.getWaitingTimes());
+        appendLatencyRow(text, "Response", metrics.getResponseTimes());
+        resultArea.setText(text.toString());
+        resultArea.setCaretPosition(0);
+    }
+
+    private void appendLatencyRow(StringBuilder text, String label, LatencyHistogram histogram) {
+        text.append(String.format("%-9s %8.2f %7d %7d %7d %7d %8.2f\n",
+                label,
+                histogram.getMean(),
+                histogram.getValueAtPercentile(50),
+                histogram.getValueAtPercentile(95),
+                histogram.getValueAtPercentile(99),
+                histogram.getMax(),
+                histogram.getStdDeviation()));
     }
 
     private class GanttChartComponent extends JPanel {
-        private final ArrayList<?> ganttChart;
+        private final GanttChart ganttChart;
 
-        public GanttChartComponent(ArrayList<?> ganttChart) {
+        public GanttChartComponent(GanttChart ganttChart) {
             this.ganttChart = ganttChart;
             setPreferredSize(new Dimension(0, 80));
             setBackground(Color.WHITE);
@@ -294,15 +397,7 @@ public class CPUSchedulingPanel extends JPanel {
             int startY = 30;
             int height = 30;
 
-            int totalTime = 0;
-            Object lastSegment = ganttChart.get(ganttChart.size() - 1);
-            if (lastSegment instanceof SJF.GanttSegment) {
-                totalTime = ((SJF.GanttSegment) lastSegment).endTime;
-            } else if (lastSegment instanceof Priority.GanttSegment) {
-                totalTime = ((Priority.GanttSegment) lastSegment).endTime;
-            } else if (lastSegment instanceof RoundRobin.GanttSegment) {
-                totalTime = ((RoundRobin.GanttSegment) lastSegment).endTime;
-            }
+            int totalTime = ganttChart.getEndTime();
 
             int maxWidth = getWidth() - 100;
             double scale = (double) maxWidth / totalTime;
@@ -313,19 +408,10 @@ public class CPUSchedulingPanel extends JPanel {
                     new Color(221, 160, 221), new Color(176, 224, 230)
             };
 
-            for (Object obj : ganttChart) {
-                int pid = -1, start = -1, end = -1;
-
-                if (obj instanceof SJF.GanttSegment) {
-                    SJF.GanttSegment seg = (SJF.GanttSegment) obj;
-                    pid = seg.pid; start = seg.startTime; end = seg.endTime;
-                } else if (obj instanceof Priority.GanttSegment) {
-                    Priority.GanttSegment seg = (Priority.GanttSegment) obj;
-                    pid = seg.pid; start = seg.startTime; end = seg.endTime;
-                } else if (obj instanceof RoundRobin.GanttSegment) {
-                    RoundRobin.GanttSegment seg = (RoundRobin.GanttSegment) obj;
-                    pid = seg.pid; start = seg.startTime; end = seg.endTime;
-                }
+            for (int i = 0; i < ganttChart.size(); i++) {
+                int pid = ganttChart.getPid(i);
+                int start = ganttChart.getStartTime(i);
+                int end = ganttChart.getEndTime(i);
 
                 int x = startX + (int)(start * scale);
                 int width = (int)((end - start) * scale);
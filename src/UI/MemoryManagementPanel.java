@@ -219,8 +219,7 @@ public class MemoryManagementPanel extends JPanel {
             sb.append(String.format("%-8s %-20s\n", "Frame", "Status"));
             sb.append("----------------------------\n");
             for (int i = 0; i < paging.getTotalFrames(); i++) {
-                Paging.FrameInfo frame = paging.getFrameTable().get(i);
-                String status = frame.isFree ? "Free" : "P" + frame.processId + " (Pg " + frame.pageNumber + ")";
+                String status = paging.isFrameFree(i) ? "Free" : "P" + paging.getFrameOwner(i) + " (Pg " + paging.getFramePage(i) + ")";
                 sb.append(String.format("%-8d %-20s\n", i, status));
             }
             sb.append("\n=== STATISTICS ===\n");
@@ -232,6 +231,8 @@ public class MemoryManagementPanel extends JPanel {
             private Paging data;
             private final int BLOCK_SIZE = 40;
             private final int GAP = 5;
+            private final Font FRAME_FONT = new Font("Arial", Font.PLAIN, 9);
+            private final Font OWNER_FONT = new Font("Arial", Font.BOLD, 10);
 
             public void updateData(Paging paging) {
                 this.data = paging;
@@ -261,13 +262,14 @@ public class MemoryManagementPanel extends JPanel {
                 Random rand = new Random(123); // Fixed seed for consistent colors
 
                 for (int i = 0; i < data.getTotalFrames(); i++) {
-                    Paging.FrameInfo frame = data.getFrameTable().get(i);
+                    boolean free = data.isFrameFree(i);
+                    int owner = data.getFrameOwner(i);
 
-                    if (frame.isFree) {
+                    if (free) {
                         g2.setColor(new Color(220, 220, 220)); // Grey for free
                     } else {
-                        processColors.putIfAbsent(frame.processId, new Color(rand.nextInt(150), rand.nextInt(150), rand.nextInt(200) + 50));
-                        g2.setColor(processColors.get(frame.processId));
+                        processColors.putIfAbsent(owner, new Color(rand.nextInt(150), rand.nextInt(150), rand.nextInt(200) + 50));
+                        g2.setColor(processColors.get(owner));
                     }
 
                     g2.fillRoundRect(x, y, BLOCK_SIZE, BLOCK_SIZE, 5, 5);
@@ -275,13 +277,13 @@ public class MemoryManagementPanel extends JPanel {
                     g2.setColor(Color.BLACK);
                     g2.drawRoundRect(x, y, BLOCK_SIZE, BLOCK_SIZE, 5, 5);
 
-                    g2.setFont(new Font("Arial", Font.PLAIN, 9));
+                    g2.setFont(FRAME_FONT);
                     g2.drawString(String.valueOf(i), x + 2, y + 10);
 
-                    if (!frame.isFree) {
+                    if (!free) {
                         g2.setColor(Color.WHITE);
-                        g2.setFont(new Font("Arial", Font.BOLD, 10));
-                        String txt = "P" + frame.processId;
+                        g2.setFont(OWNER_FONT);
+                        String txt = "P" + owner;
                         int strW = g2.getFontMetrics().stringWidth(txt);
                         g2.drawString(txt, x + (BLOCK_SIZE - strW)/2, y + BLOCK_SIZE/2 + 4);
                     }
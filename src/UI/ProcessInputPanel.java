@@ -199,7 +199,7 @@ public class ProcessInputPanel extends JPanel {
                 JOptionPane.WARNING_MESSAGE);
 
         if (result == JOptionPane.YES_OPTION) {
-            processList.getProcesses().clear();
+            processList.clear();
             updateTable();
             JOptionPane.showMessageDialog(this,
                     "All processes cleared successfully",
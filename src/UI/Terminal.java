@@ -2,6 +2,7 @@ package UI;
 
 import java.util.Scanner;
 
+import Controller.BenchHandler;
 import Controller.MemoryManagementHandler;
 import Controller.CPUSchedulingHandler;
 import Controller.ProcessInputHandler;
@@ -14,6 +15,7 @@ public class Terminal {
     private ProcessInputHandler inputHandler;
     private CPUSchedulingHandler schedulingHandler;
     private MemoryManagementHandler memoryHandler;
+    private BenchHandler benchHandler;
     public static final String RESET = "\033[0m";
     public static final String RED = "\033[0;31m";
     public static final String GREEN = "\033[0;32m";
@@ -29,6 +31,7 @@ public class Terminal {
         this.inputHandler = new ProcessInputHandler(scanner);
         this.schedulingHandler = new CPUSchedulingHandler(scanner);
         this.memoryHandler = new MemoryManagementHandler(scanner);
+        this.benchHandler = new BenchHandler(schedulingHandler, memoryHandler);
         printWelcomeScreen();
         startMenu();
     }
@@ -101,7 +104,7 @@ public class Terminal {
         System.out.println("Type 'help' for commands, 'exit' to return to menu.");
         boolean inCommandMode = true;
         java.util.Stack<String> historyStack = new java.util.Stack<>();
-        String[] commandArray = new String[18];
+        String[] commandArray = new String[30];
         commandArray[0] = "history";
         commandArray[1] = "!!";
         commandArray[2] = "clear";
@@ -120,6 +123,18 @@ public class Terminal {
         commandArray[15] = "runprioritynp";
         commandArray[16] = "runpriorityp";
         commandArray[17] = "runrr";
+        commandArray[18] = "compare";
+        commandArray[19] = "sweeprr";
+        commandArray[20] = "mapstore";
+        commandArray[21] = "runtofile";
+        commandArray[22] = "generate";
+        commandArray[23] = "import";
+        commandArray[24] = "importswf";
+        commandArray[25] = "exporttrace";
+        commandArray[26] = "bench";
+        commandArray[27] = "online";
+        commandArray[28] = "tlb";
+        commandArray[29] = "translatefile";
         String lastCommand = "";
 
         while (inCommandMode) {
@@ -184,6 +199,40 @@ public class Terminal {
                     }
                     break;
 
+                case "import":
+                    lastCommand = cmdInput;
+                    if (parts.length >= 2) {
+                        inputHandler.importCommand(cmdInput.substring(parts[0].length()).trim());
+                    } else {
+                        System.out.println(RED + "Usage: import <file.csv>" + RESET);
+                    }
+                    break;
+
+                case "importswf":
+                    lastCommand = cmdInput;
+                    if (parts.length >= 2) {
+                        inputHandler.importSwfCommand(cmdInput.substring(parts[0].length()).trim());
+                    } else {
+                        System.out.println(RED + "Usage: importswf <trace.swf>" + RESET);
+                    }
+                    break;
+
+                case "generate":
+                    lastCommand = cmdInput;
+                    String[] generateArgs = new String[parts.length - 1];
+                    System.arraycopy(parts, 1, generateArgs, 0, parts.length - 1);
+                    inputHandler.generateCommand(generateArgs);
+                    break;
+
+                case "mapstore":
+                    lastCommand = cmdInput;
+                    if (parts.length >= 2) {
+                        inputHandler.mapStoreCommand(cmdInput.substring(parts[0].length()).trim());
+                    } else {
+                        System.out.println(RED + "Usage: mapstore <file> | mapstore off" + RESET);
+                    }
+                    break;
+
                 case "listprocess":
                     lastCommand = "listprocess";
                     inputHandler.listProcesses();
@@ -233,6 +282,83 @@ public class Terminal {
                     schedulingHandler.runRRCommand();
                     break;
 
+                case "compare":
+                    lastCommand = "compare";
+                    schedulingHandler.compareCommand();
+                    break;
+
+                case "runtofile":
+                    lastCommand = cmdInput;
+                    if (parts.length >= 3) {
+                        schedulingHandler.runToFileCommand(parts[1], parts[2]);
+                    } else {
+                        System.out.println(RED + "Usage: runtofile <sjf|prioritynp|priorityp|rr> <file>" + RESET);
+                    }
+                    break;
+
+                case "exporttrace":
+                    lastCommand = cmdInput;
+                    if (parts.length >= 3) {
+                        boolean cpuTrack = parts.length >= 4 && parts[3].equalsIgnoreCase("cpu");
+                        schedulingHandler.exportTraceCommand(parts[1], parts[2], cpuTrack);
+                    } else {
+                        System.out.println(RED + "Usage: exporttrace <sjf|prioritynp|priorityp|rr> <file.json> [cpu]" + RESET);
+                    }
+                    break;
+
+                case "online":
+                    lastCommand = cmdInput;
+                    if (parts.length >= 2) {
+                        String onlineFile = null;
+                        boolean follow = false;
+                        boolean quiet = false;
+                        for (int i = 2; i < parts.length; i++) {
+                            if (parts[i].equalsIgnoreCase("follow")) follow = true;
+                            else if (parts[i].equalsIgnoreCase("quiet")) quiet = true;
+                            else onlineFile = parts[i];
+                        }
+                        schedulingHandler.onlineCommand(parts[1], onlineFile, follow, quiet);
+                    } else {
+                        System.out.println(RED + "Usage: online <sjf|prioritynp|priorityp|rr> [file] [follow] [quiet]" + RESET);
+                    }
+                    break;
+
+                case "sweeprr":
+                    lastCommand = cmdInput;
+                    if (parts.length >= 3) {
+                        try {
+                            int fromQuantum = Integer.parseInt(parts[1]);
+                            int toQuantum = Integer.parseInt(parts[2]);
+                            schedulingHandler.sweepRRCommand(fromQuantum, toQuantum);
+                        } catch (NumberFormatException ex) {
+                            System.out.println(RED + "Error: Invalid quantum range!" + RESET);
+                        }
+                    } else {
+                        System.out.println(RED + "Usage: sweeprr <from> <to>" + RESET);
+                    }
+                    break;
+
+                case "bench":
+                    lastCommand = cmdInput;
+                    String[] benchArgs = new String[parts.length - 1];
+                    System.arraycopy(parts, 1, benchArgs, 0, parts.length - 1);
+                    benchHandler.benchCommand(benchArgs);
+                    break;
+
+                case "tlb":
+                    lastCommand = cmdInput;
+                    String[] tlbArgs = new String[parts.length - 1];
+                    System.arraycopy(parts, 1, tlbArgs, 0, parts.length - 1);
+                    memoryHandler.tlbCommand(tlbArgs);
+                    break;
+
+                case "translatefile":
+                    lastCommand = cmdInput;
+                    String[] traceArgs = new String[parts.length - 1];
+                    System.arraycopy(parts, 1, traceArgs, 0, parts.length - 1);
+                    memoryHandler.translateFileCommand(traceArgs);
+                    break;
+
                 case "schedule":
                     lastCommand = "schedule";
                     schedulingHandler.showSchedulingMenu();